@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Measures the time from JVM launch to the first successful GET /scores/ping.
+#
+#   scripts/startup-time.sh jar [runs]   plain executable jar (./mvnw -DskipTests package)
+#   scripts/startup-time.sh cds [runs]   AOT + CDS build (./mvnw -Pcds -DskipTests package)
+#
+# Runs the prod profile against DATABASE_URL/DATABASE_USER/DATABASE_PASSWORD. Extra JVM flags go in JAVA_OPTS.
+set -euo pipefail
+
+mode=${1:-jar}
+runs=${2:-5}
+port=${PORT:-18080}
+base=$(cd "$(dirname "$0")/.." && pwd)
+
+case "$mode" in
+  jar)
+    jar=$(ls "$base"/target/backend-*.jar | grep -v plain | head -n 1)
+    cmd=(java ${JAVA_OPTS:-} -jar "$jar")
+    ;;
+  cds)
+    jar=$(ls "$base"/target/cds/backend-*.jar | head -n 1)
+    cmd=(java ${JAVA_OPTS:-} -XX:SharedArchiveFile="$base/target/cds/application.jsa" -Dspring.aot.enabled=true -jar "$jar")
+    ;;
+  *)
+    echo "usage: $0 jar|cds [runs]" >&2
+    exit 2
+    ;;
+esac
+
+export SPRING_PROFILES_ACTIVE=prod
+export SERVER_PORT=$port
+export MANAGEMENT_PORT=$((port + 1))
+export API_KEY=${API_KEY:-startup-time}
+export SCORE_SECRET=${SCORE_SECRET:-startup-time}
+export FRONTEND_URL=${FRONTEND_URL:-http://localhost}
+
+times=()
+for run in $(seq "$runs"); do
+  start=$(date +%s%N)
+  "${cmd[@]}" > "$base/target/startup-time-$mode-$run.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "http://localhost:$port/scores/ping"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "run $run: application exited, see target/startup-time-$mode-$run.log" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  times+=("$ms")
+  echo "run $run: ${ms} ms"
+done
+
+sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+echo "$mode: median ${sorted[$((runs / 2))]} ms, min ${sorted[0]} ms, max ${sorted[$((runs - 1))]} ms over $runs runs"
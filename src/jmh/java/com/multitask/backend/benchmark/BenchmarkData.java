@@ -0,0 +1,61 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.entity.Score;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+
+    static final String SECRET = "benchmark_secret";
+
+    private BenchmarkData() {
+    }
+
+    static LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.now().truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC);
+    }
+
+    static ScoreDTO dto(String playerName, int score, LocalDateTime dateTime) {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName(playerName);
+        dto.setScore(score);
+        dto.setDateTime(dateTime);
+        return dto;
+    }
+
+    static List<ScoreDTO> dtos(int count) {
+        Random random = new Random(count);
+        LocalDateTime now = now();
+        List<ScoreDTO> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dtos.add(dto("Player" + i, random.nextInt(100_000), now.minusSeconds(i)));
+        }
+        return dtos;
+    }
+
+    static List<Score> scores(int count) {
+        Random random = new Random(count);
+        LocalDateTime now = now();
+        List<Score> scores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            scores.add(new Score(null, "Player" + random.nextInt(count / 4 + 1), random.nextInt(100_000), now.minusSeconds(i)));
+        }
+        return scores;
+    }
+
+    // Same date handling as the Spring Boot auto-configured mapper
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints a side-by-side comparison of two JMH JSON result files, e.g. from two commits:
+ * <pre>java -cp ... com.multitask.backend.benchmark.CompareResults before.json after.json</pre>
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json>");
+            System.exit(1);
+        }
+        Map<String, JsonNode> baseline = read(args[0]);
+        Map<String, JsonNode> candidate = read(args[1]);
+
+        System.out.printf("%-70s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Candidate", "Change", "Unit");
+        candidate.forEach((name, result) -> {
+            JsonNode before = baseline.get(name);
+            double after = result.path("primaryMetric").path("score").asDouble();
+            String unit = result.path("primaryMetric").path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", name, "-", after, "new", unit);
+                return;
+            }
+            double base = before.path("primaryMetric").path("score").asDouble();
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%n", name, base, after, (after - base) / base * 100, unit);
+        });
+    }
+
+    private static Map<String, JsonNode> read(String path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(new File(path))) {
+            StringBuilder name = new StringBuilder(result.path("benchmark").asText().replace("com.multitask.backend.benchmark.", ""));
+            result.path("params").fields().forEachRemaining(param ->
+                    name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            results.put(name.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,94 @@
+package com.multitask.backend.benchmark;
+
+import com.multitask.backend.entity.Score;
+import com.multitask.backend.repository.ScoreRepository;
+
+import org.springframework.data.domain.Limit;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Minimal in-memory stand-in for {@link ScoreRepository} covering the methods used
+ * by ScoreServiceImpl, so benchmarks measure the service and not a database.
+ */
+final class InMemoryScoreRepository {
+
+    private final List<Score> scores = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private InMemoryScoreRepository() {
+    }
+
+    static ScoreRepository create(List<Score> initial) {
+        InMemoryScoreRepository store = new InMemoryScoreRepository();
+        initial.forEach(store::save);
+        return (ScoreRepository) Proxy.newProxyInstance(
+                ScoreRepository.class.getClassLoader(),
+                new Class<?>[]{ScoreRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> store.save((Score) args[0]);
+                    case "insertAll" -> {
+                        @SuppressWarnings("unchecked")
+                        List<Score> batch = (List<Score>) args[0];
+                        batch.forEach(store::save);
+                        yield null;
+                    }
+                    case "findTop10ByBoardIdOrderByScoreDescIdAsc" -> store.top(score -> score.getBoardId().equals(args[0]), 10);
+                    case "findTopInWindow" -> {
+                        LocalDateTime from = (LocalDateTime) args[0];
+                        LocalDateTime to = (LocalDateTime) args[1];
+                        yield store.top(score -> Score.DEFAULT_BOARD.equals(score.getBoardId())
+                                && !score.getDateTime().isBefore(from) && score.getDateTime().isBefore(to), ((Limit) args[2]).max());
+                    }
+                    case "findBestScorePerPlayer" -> store.bestPerPlayer();
+                    case "findMaxId" -> Optional.of(store.ids.get());
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryScoreRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private synchronized Score save(Score score) {
+        if (score.getId() == null) {
+            score.setId(ids.incrementAndGet());
+        }
+        scores.add(score);
+        return score;
+    }
+
+    private synchronized List<Score> top(Predicate<Score> filter, int limit) {
+        return scores.stream()
+                .filter(filter)
+                .sorted(Comparator.comparingInt(Score::getScore).reversed().thenComparing(Score::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    private synchronized List<ScoreRepository.PlayerBest> bestPerPlayer() {
+        Map<String, Integer> best = new HashMap<>();
+        scores.forEach(score -> best.merge(score.getPlayerName(), score.getScore(), Math::max));
+        return best.entrySet().stream()
+                .map(entry -> (ScoreRepository.PlayerBest) new ScoreRepository.PlayerBest() {
+                    @Override
+                    public String getPlayerName() {
+                        return entry.getKey();
+                    }
+
+                    @Override
+                    public int getScore() {
+                        return entry.getValue();
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.ScoreDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    private static final TypeReference<List<ScoreDTO>> SCORE_LIST = new TypeReference<>() { };
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<ScoreDTO> scores;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.objectMapper();
+        scores = BenchmarkData.dtos(size);
+        json = objectMapper.writeValueAsBytes(scores);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(scores);
+    }
+
+    @Benchmark
+    public List<ScoreDTO> deserialize() throws IOException {
+        return objectMapper.readValue(json, SCORE_LIST);
+    }
+}
@@ -0,0 +1,59 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the top 10 through the message converters Spring MVC uses: serializing
+ * a {@code List<ScoreDTO>} per request versus copying the pre-serialized snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LeaderboardResponseBenchmark {
+
+    private MappingJackson2HttpMessageConverter jsonConverter;
+    private ByteArrayHttpMessageConverter bytesConverter;
+    private List<ScoreDTO> scores;
+    private LeaderboardSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        bytesConverter = new ByteArrayHttpMessageConverter();
+        scores = BenchmarkData.dtos(10);
+        snapshot = LeaderboardSnapshot.of(1L, scores, objectMapper);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage serializeScoreList() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jsonConverter.write(scores, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeSnapshotJson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        bytesConverter.write(snapshot.getJson(), MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeSnapshotGzip() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        bytesConverter.write(snapshot.getGzippedJson(), MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
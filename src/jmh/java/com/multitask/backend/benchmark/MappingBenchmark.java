@@ -0,0 +1,48 @@
+package com.multitask.backend.benchmark;
+
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.entity.Score;
+import com.multitask.backend.mapper.ScoreMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private ScoreMapper scoreMapper;
+    private ScoreDTO dto;
+    private Score score;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        scoreMapper = new ScoreMapper();
+        dto = BenchmarkData.dto("Alice", 123_456, BenchmarkData.now());
+        score = new Score(1L, "Alice", 123_456, BenchmarkData.now());
+    }
+
+    @Benchmark
+    public Score modelMapperToEntity() {
+        return modelMapper.map(dto, Score.class);
+    }
+
+    @Benchmark
+    public ScoreDTO modelMapperToDto() {
+        return modelMapper.map(score, ScoreDTO.class);
+    }
+
+    @Benchmark
+    public Score scoreMapperToEntity() {
+        return scoreMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public ScoreDTO scoreMapperToDto() {
+        return scoreMapper.toDto(score);
+    }
+}
@@ -0,0 +1,83 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.multitask.backend.config.BinaryFormatsConfig;
+import com.multitask.backend.domain.ScoreDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding score lists as JSON, CBOR and Smile, configured as the HTTP
+ * converters are. Run {@link #main} for the bytes each format puts on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<ScoreDTO>> SCORE_LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<ScoreDTO> scores;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = objectMapper(format);
+        scores = BenchmarkData.dtos(size);
+        encoded = objectMapper.writeValueAsBytes(scores);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(scores);
+    }
+
+    @Benchmark
+    public List<ScoreDTO> decode() throws IOException {
+        return objectMapper.readValue(encoded, SCORE_LIST);
+    }
+
+    static ObjectMapper objectMapper(String format) {
+        return switch (format) {
+            case "json" -> BenchmarkData.objectMapper();
+            case "cbor" -> BinaryFormatsConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+            case "smile" -> BinaryFormatsConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-6s %6s %10s %10s%n", "format", "scores", "bytes", "gzipped");
+        for (int size : new int[] {1, 10, 100}) {
+            List<ScoreDTO> scores = BenchmarkData.dtos(size);
+            for (String format : new String[] {"json", "cbor", "smile"}) {
+                byte[] bytes = objectMapper(format).writeValueAsBytes(scores);
+                System.out.printf("%-6s %6d %10d %10d%n", format, size, bytes.length, gzip(bytes).length);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,202 @@
+package com.multitask.backend.benchmark;
+
+import com.multitask.backend.security.ScoreSignatureValidator;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing server configurations (e.g. with and
+ * without the vthreads profile). Each worker issues requests back to back and
+ * records latencies; throughput and percentiles are printed per endpoint.
+ * <pre>
+ * ./mvnw -Pjmh -q test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=com.multitask.backend.benchmark.ScoreLoadTest \
+ *   -Dexec.args="url=http://localhost:8080 apiKey=... secret=... concurrency=1000 duration=30 writeRatio=0.2"
+ * </pre>
+ */
+public final class ScoreLoadTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private ScoreLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        String apiKey = options.getOrDefault("apiKey", "");
+        String secret = options.getOrDefault("secret", "");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        double writeRatio = Double.parseDouble(options.getOrDefault("writeRatio", "0.1"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        ScoreSignatureValidator validator = new ScoreSignatureValidator(secret,
+                ScoreSignatureValidator.Mode.valueOf(options.getOrDefault("signatureMode", "LEGACY")));
+
+        Worker[] workers = new Worker[concurrency];
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(client, validator, url, apiKey, writeRatio, "LoadTest" + i, warmupEnd, end);
+            workers[i] = worker;
+            pool.execute(() -> {
+                try {
+                    worker.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdown();
+
+        System.out.printf("concurrency=%d duration=%ds writeRatio=%.2f%n", concurrency, durationSeconds, writeRatio);
+        System.out.printf("%-12s %10s %10s %8s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        report("GET top10", workers, false, durationSeconds);
+        report("POST score", workers, true, durationSeconds);
+        System.exit(0);
+    }
+
+    private static void report(String name, Worker[] workers, boolean writes, int durationSeconds) {
+        List<long[]> parts = new ArrayList<>();
+        long errors = 0;
+        int total = 0;
+        for (Worker worker : workers) {
+            LatencyLog log = writes ? worker.writes : worker.reads;
+            parts.add(Arrays.copyOf(log.values, log.size));
+            total += log.size;
+            errors += log.errors.get();
+        }
+        long[] all = new long[total];
+        int pos = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, pos, part.length);
+            pos += part.length;
+        }
+        Arrays.sort(all);
+        System.out.printf("%-12s %10d %10.0f %8d %9.2f %9.2f %9.2f %9.2f%n", name, total, (double) total / durationSeconds, errors,
+                millis(percentile(all, 0.5)), millis(percentile(all, 0.99)), millis(percentile(all, 0.999)),
+                millis(total == 0 ? 0 : all[total - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class LatencyLog {
+        private long[] values = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+        private final HttpClient client;
+        private final ScoreSignatureValidator validator;
+        private final String url;
+        private final String apiKey;
+        private final double writeRatio;
+        private final String playerName;
+        private final long warmupEnd;
+        private final long end;
+        private final LatencyLog reads = new LatencyLog();
+        private final LatencyLog writes = new LatencyLog();
+
+        Worker(HttpClient client, ScoreSignatureValidator validator, String url, String apiKey, double writeRatio,
+               String playerName, long warmupEnd, long end) {
+            this.client = client;
+            this.validator = validator;
+            this.url = url;
+            this.apiKey = apiKey;
+            this.writeRatio = writeRatio;
+            this.playerName = playerName;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                boolean write = random.nextDouble() < writeRatio;
+                HttpRequest request = write ? submit(random.nextInt(100_000)) : top10();
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    ok = response.statusCode() < 400;
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long elapsed = System.nanoTime() - now;
+                if (now >= warmupEnd) {
+                    LatencyLog log = write ? writes : reads;
+                    log.record(elapsed);
+                    if (!ok) {
+                        log.errors.incrementAndGet();
+                    }
+                }
+            }
+        }
+
+        private HttpRequest top10() {
+            return HttpRequest.newBuilder(URI.create(url + "/scores/top10"))
+                    .header("X-API-KEY", apiKey)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest submit(int score) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC).withNano(0);
+            long timestamp = dateTime.toEpochSecond(ZoneOffset.UTC);
+            String body = "{\"playerName\":\"" + playerName + "\",\"score\":" + score
+                    + ",\"dateTime\":\"" + DATE_FORMAT.format(dateTime) + "\"}";
+            return HttpRequest.newBuilder(URI.create(url + "/scores"))
+                    .header("X-API-KEY", apiKey)
+                    .header("X-Signature", validator.generarFirma(playerName, score, timestamp))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+}
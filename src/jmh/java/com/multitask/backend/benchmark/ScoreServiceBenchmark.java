@@ -0,0 +1,83 @@
+package com.multitask.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.leaderboard.LeaderboardCheckpointStore;
+import com.multitask.backend.leaderboard.PlayerRankIndex;
+import com.multitask.backend.mapper.ScoreMapper;
+import com.multitask.backend.repository.ScoreRepository;
+import com.multitask.backend.security.ReplayGuard;
+import com.multitask.backend.security.ScoreSignatureValidator;
+import com.multitask.backend.service.ScoreService;
+import com.multitask.backend.service.impl.ScoreBatchWriter;
+import com.multitask.backend.service.impl.ScoreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls against an in-memory repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScoreServiceBenchmark {
+
+    private ScoreService scoreService;
+    private ScoreSignatureValidator validator;
+    private ScoreDTO lowScore;
+    private String[] playerNames;
+    private int sequence;
+    private long timestampSecond;
+
+    @Setup
+    public void setUp() {
+        ScoreRepository repository = InMemoryScoreRepository.create(BenchmarkData.scores(10_000));
+        validator = new ScoreSignatureValidator(BenchmarkData.SECRET);
+        scoreService = new ScoreServiceImpl(repository, new ScoreMapper(), validator,
+                new ScoreBatchWriter(repository, false, 1, 0, 1, false, 1), new PlayerRankIndex(100_000, 1),
+                new ReplayGuard(2_000_000, new SimpleMeterRegistry()), BenchmarkData.objectMapper(), false,
+                new SimpleMeterRegistry(), new LeaderboardCheckpointStore(""), 1000);
+        scoreService.getTop10Scores();
+
+        lowScore = BenchmarkData.dto("Benchmark", 0, BenchmarkData.now());
+        playerNames = new String[4096];
+        for (int i = 0; i < playerNames.length; i++) {
+            playerNames[i] = "Benchmark" + i;
+        }
+    }
+
+    /**
+     * Includes signing the payload client-side: every submission must be distinct to pass replay protection.
+     */
+    @Benchmark
+    public void saveScore() {
+        long second = System.currentTimeMillis() / 1000;
+        if (second != timestampSecond) {
+            // The oldest timestamp still accepted, so the replay guard forgets these submissions within
+            // seconds instead of filling up, as it would with an hour of live traffic
+            timestampSecond = second;
+            lowScore.setDateTime(LocalDateTime.ofEpochSecond(second - 3599, 0, ZoneOffset.UTC));
+        }
+        // Below the current top 10, as most submissions are
+        int next = sequence++;
+        lowScore.setScore(next & 0x3ff);
+        lowScore.setPlayerName(playerNames[(next >>> 10) & (playerNames.length - 1)]);
+        scoreService.saveScore(lowScore, validator.generarFirma(lowScore.getPlayerName(), lowScore.getScore(), lowScore.getTimestamp()));
+    }
+
+    @Benchmark
+    public List<ScoreDTO> getTop10Scores() {
+        return scoreService.getTop10Scores();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<ScoreDTO> getTop10ScoresContended() {
+        return scoreService.getTop10Scores();
+    }
+}
@@ -0,0 +1,34 @@
+package com.multitask.backend.benchmark;
+
+import com.multitask.backend.security.ScoreSignatureValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SignatureBenchmark {
+
+    @Param({"LEGACY", "HMAC"})
+    public ScoreSignatureValidator.Mode mode;
+
+    private ScoreSignatureValidator validator;
+    private String signature;
+
+    @Setup
+    public void setUp() {
+        validator = new ScoreSignatureValidator(BenchmarkData.SECRET, mode);
+        signature = validator.generarFirma("Alice", 123_456, 1_710_000_000L);
+    }
+
+    @Benchmark
+    public boolean validarFirma() {
+        return validator.validarFirma("Alice", 123_456, 1_710_000_000L, signature);
+    }
+
+    @Benchmark
+    public boolean validarFirmaInvalid() {
+        return validator.validarFirma("Alice", 123_457, 1_710_000_000L, signature);
+    }
+}
@@ -1,5 +1,8 @@
 package com.multitask.backend.config;
 
+import com.multitask.backend.security.ClientRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -8,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @Order(1)
@@ -19,6 +23,23 @@ public class ApiKeyFilter implements Filter {
     @Value("${frontend.url}")
     private String frontendUrl;
 
+    private final ClientRateLimiter rateLimiter;
+    private final Counter invalidKeyRejections;
+    private final Counter rateLimitRejections;
+
+    public ApiKeyFilter(ClientRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.invalidKeyRejections = rejections(meterRegistry, "api_key");
+        this.rateLimitRejections = rejections(meterRegistry, "rate_limit");
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("api.filter.rejections")
+                .description("Requests rejected by the API key filter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -43,12 +64,29 @@ public class ApiKeyFilter implements Filter {
         }
 
         String receivedKey = httpReq.getHeader("X-API-KEY");
+        // Browsers' EventSource cannot set headers, so the stream also accepts the key as a query parameter
+        if (receivedKey == null && "/scores/stream".equals(path)) {
+            receivedKey = httpReq.getParameter("apiKey");
+        }
         if (receivedKey == null || !receivedKey.equals(apiKey)) {
+            invalidKeyRejections.increment();
             httpRes.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpRes.getWriter().write("Invalid or missing API key");
             return;
         }
 
+        ClientRateLimiter.Kind kind = "GET".equalsIgnoreCase(httpReq.getMethod())
+                ? ClientRateLimiter.Kind.READ
+                : ClientRateLimiter.Kind.WRITE;
+        long waitNanos = rateLimiter.tryAcquire(httpReq.getRemoteAddr(), kind);
+        if (waitNanos > 0) {
+            rateLimitRejections.increment();
+            httpRes.setStatus(429);
+            httpRes.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            httpRes.getWriter().write("Too many requests");
+            return;
+        }
+
         chain.doFilter(request, response);
     }
 }
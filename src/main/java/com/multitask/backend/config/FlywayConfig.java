@@ -0,0 +1,24 @@
+package com.multitask.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reads {@code spring.flyway.enabled} when the context starts rather than when its bean
+ * conditions are evaluated. The AOT-processed jar of the {@code cds} profile fixes those
+ * conditions at build time, and its training run must not migrate any database.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${spring.flyway.enabled:true}") boolean enabled) {
+        return flyway -> {
+            if (enabled) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package com.multitask.backend.config;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// Score mapping uses ScoreMapper; this bean is only kept for callers that still want ModelMapper
 @Configuration
+@ConditionalOnClass(name = "org.modelmapper.ModelMapper")
 public class ModelMapperConfig {
     @Bean
     public ModelMapper modelMapper() {
@@ -0,0 +1,35 @@
+package com.multitask.backend.controller;
+
+import com.multitask.backend.service.impl.LeaderboardBroadcaster;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/scores")
+public class LeaderboardStreamController {
+
+    private final LeaderboardBroadcaster broadcaster;
+
+    public LeaderboardStreamController(LeaderboardBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return broadcaster.subscribe()
+                .map(emitter -> ResponseEntity.ok()
+                        // Stops nginx-style proxies from buffering the stream
+                        .header("X-Accel-Buffering", "no")
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+}
@@ -1,22 +1,48 @@
 package com.multitask.backend.controller;
 
+import com.multitask.backend.config.BinaryFormatsConfig;
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.domain.PlayerRankDTO;
 import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.domain.ScoreDistributionDTO;
+import com.multitask.backend.domain.ScorePageDTO;
+import com.multitask.backend.domain.ScorePercentileDTO;
+import com.multitask.backend.domain.ScoreResultDTO;
+import com.multitask.backend.domain.SignedScoreDTO;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
 import com.multitask.backend.service.ScoreService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RestController
 @RequestMapping("/scores")
 @Slf4j
 public class ScoreController {
 
+    // Leaderboard versions restart at every boot and differ between instances, so ETags carry an instance id
+    private static final String INSTANCE_ID = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private static final String VARY_FORMAT = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    // In the order chosen between equally acceptable types, matching the produces of /top10
+    private static final List<MediaType> TOP10_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            BinaryFormatsConfig.APPLICATION_SMILE);
+
     private final ScoreService scoreService;
 
     public ScoreController(ScoreService scoreService) {
@@ -28,14 +54,161 @@ public class ScoreController {
             @RequestBody ScoreDTO request,
             @RequestHeader("X-Signature") String signature) {
         log.info("[SCORE] submitScore from {}", request.getPlayerName());
-        scoreService.saveScore(request, signature);
+        boolean persisted = scoreService.saveScore(request, signature);
+
+        // With write-behind ingestion the score is only queued at this point
+        return ResponseEntity.status(persisted ? HttpStatus.CREATED : HttpStatus.ACCEPTED).build();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ScoreResultDTO>> submitScores(@RequestBody List<SignedScoreDTO> request) {
+        log.info("[SCORE] submitScores with {} scores", request.size());
+        return ResponseEntity.ok(scoreService.saveScores(request));
+    }
+
+    // JSON is listed first so that requests without a binary type in Accept keep getting it
+    @GetMapping(value = "/top10", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> getTop10(WebRequest webRequest,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MediaType binaryType = binaryType(accept);
+        boolean gzip = binaryType == null && acceptsGzip(acceptEncoding);
+        // Checked before touching the snapshot, so unchanged boards cost no serialization or copying
+        String etag = etag(scoreService.getLeaderboardVersion(), binaryType, gzip);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, VARY_FORMAT).build();
+        }
+
+        LeaderboardSnapshot snapshot = scoreService.getTop10Snapshot();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag(snapshot.getVersion(), binaryType, gzip))
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, VARY_FORMAT);
+        if (binaryType != null) {
+            // Binary clients are few and the board is small, so these are encoded per request rather than kept in the snapshot
+            return response.contentType(binaryType).body(snapshot.getScores());
+        }
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzippedJson());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    @GetMapping("/{boardId}/top10")
+    public ResponseEntity<List<ScoreDTO>> getBoardTop10(@PathVariable String boardId) {
+        return ResponseEntity.ok(scoreService.getTop10Scores(boardId));
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<ScoreDTO>> getTopScores(@RequestParam(defaultValue = "all") String window) {
+        return ResponseEntity.ok(scoreService.getTopScores(LeaderboardWindow.fromParam(window)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ScorePageDTO> getScores(
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(scoreService.getScores(limit, after));
+    }
+
+    @GetMapping("/rank/{playerName}")
+    public ResponseEntity<PlayerRankDTO> getPlayerRank(@PathVariable String playerName) {
+        return ResponseEntity.ok(scoreService.getPlayerRank(playerName));
+    }
+
+    @GetMapping("/players")
+    public ResponseEntity<List<PlayerRankDTO>> searchPlayers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(scoreService.searchPlayers(prefix, limit));
+    }
+
+    @GetMapping("/percentile")
+    public ResponseEntity<ScorePercentileDTO> getPercentile(@RequestParam int score) {
+        return ResponseEntity.ok(scoreService.getPercentile(score));
+    }
+
+    @GetMapping("/distribution")
+    public ResponseEntity<ScoreDistributionDTO> getDistribution(@RequestParam(defaultValue = "20") int buckets) {
+        return ResponseEntity.ok(scoreService.getDistribution(buckets));
+    }
+
+    // Every representation gets its own strong tag: the gzip body is not byte-identical to the plain one
+    private static String etag(long version, MediaType binaryType, boolean gzip) {
+        StringBuilder tag = new StringBuilder("\"").append(INSTANCE_ID).append('-').append(version);
+        if (binaryType != null) {
+            tag.append('-').append(binaryType.getSubtype());
+        }
+        if (gzip) {
+            tag.append("-gzip");
+        }
+        return tag.append('"').toString();
+    }
+
+    // True when Accept-Encoding gives gzip, or failing that *, a non-zero q-value
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = quality(params);
+            } else if (name.equals("*")) {
+                anyQuality = quality(params);
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : anyQuality) > 0;
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+    // CBOR or Smile when the client prefers one of them, otherwise null for JSON
+    private static MediaType binaryType(String accept) {
+        if (accept == null) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            // Highest quality first, then the most specific; equal entries keep the client's order
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        for (MediaType range : accepted) {
+            if (range.getQualityValue() <= 0) {
+                continue;
+            }
+            for (MediaType type : TOP10_TYPES) {
+                if (range.includes(type) && !refused(accepted, type)) {
+                    return type.equals(MediaType.APPLICATION_JSON) ? null : type;
+                }
+            }
+        }
+        return null;
     }
 
-    @GetMapping("/top10")
-    public ResponseEntity<List<ScoreDTO>> getTop10() {
-        return ResponseEntity.ok(scoreService.getTop10Scores());
+    private static boolean refused(List<MediaType> accepted, MediaType type) {
+        return accepted.stream().anyMatch(range -> range.getQualityValue() <= 0 && range.equalsTypeAndSubtype(type));
     }
 
     @GetMapping("/ping")
@@ -0,0 +1,40 @@
+package com.multitask.backend.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Leaderboard windows, aligned to UTC days and ISO weeks (starting Monday).
+ */
+public enum LeaderboardWindow {
+    DAY,
+    WEEK,
+    ALL;
+
+    public LocalDateTime start(LocalDateTime now) {
+        return switch (this) {
+            case DAY -> now.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> now.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case ALL -> LocalDateTime.MIN;
+        };
+    }
+
+    public LocalDateTime end(LocalDateTime start) {
+        return switch (this) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case ALL -> LocalDateTime.MAX;
+        };
+    }
+
+    public static LeaderboardWindow fromParam(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("window must be one of day, week, all");
+        }
+    }
+}
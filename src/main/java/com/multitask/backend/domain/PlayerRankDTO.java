@@ -0,0 +1,12 @@
+package com.multitask.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class PlayerRankDTO {
+    private String playerName;
+    private int score;
+    private int rank;
+}
@@ -2,6 +2,7 @@ package com.multitask.backend.domain;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,10 @@ public class ScoreDTO {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime dateTime;
 
+    // Null for the default board, so existing clients neither send nor receive it
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String boardId;
+
     @JsonIgnore
     public long getTimestamp() {
         return dateTime.toEpochSecond(ZoneOffset.UTC);
@@ -0,0 +1,22 @@
+package com.multitask.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class ScoreDistributionDTO {
+
+    @Data @NoArgsConstructor @AllArgsConstructor
+    public static class Bucket {
+        // Inclusive lower and exclusive upper bound
+        private int from;
+        private int to;
+        private int players;
+    }
+
+    private int players;
+    private List<Bucket> buckets;
+}
@@ -0,0 +1,15 @@
+package com.multitask.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class ScorePageDTO {
+    private List<ScoreDTO> scores;
+
+    // Cursor for the next page in the form "score,id", null on the last page
+    private String next;
+}
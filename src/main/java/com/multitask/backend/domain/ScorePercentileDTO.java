@@ -0,0 +1,17 @@
+package com.multitask.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class ScorePercentileDTO {
+    private int score;
+    private int players;
+
+    // Players whose best score is strictly lower
+    private int playersBelow;
+
+    // Share of players beaten, 0 to 100 with one decimal
+    private double percentile;
+}
@@ -0,0 +1,19 @@
+package com.multitask.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor
+public class ScoreResultDTO {
+
+    public enum Status { ACCEPTED, REJECTED }
+
+    // Position of the score in the submitted array
+    private int index;
+    private Status status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+}
@@ -0,0 +1,13 @@
+package com.multitask.backend.domain;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Item of a batch submission, carrying the signature that {@code POST /scores} takes as a header.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class SignedScoreDTO extends ScoreDTO {
+    private String signature;
+}
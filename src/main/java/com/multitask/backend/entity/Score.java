@@ -4,14 +4,23 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scores")
+@Table(name = "scores", indexes = {
+        @Index(name = "idx_scores_score_id", columnList = "score DESC, id"),
+        @Index(name = "idx_scores_date_time", columnList = "date_time"),
+        @Index(name = "idx_scores_player_score", columnList = "player_name, score DESC"),
+        @Index(name = "idx_scores_board_score_id", columnList = "board_id, score DESC, id")
+})
 @Data @NoArgsConstructor @AllArgsConstructor
 public class Score {
 
+    // Board of every score submitted without one, including all rows from before boards existed
+    public static final String DEFAULT_BOARD = "default";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,4 +33,13 @@ public class Score {
 
     @Column(nullable = false)
     private LocalDateTime dateTime;
+
+    // The column default fills existing rows when the column is added
+    @ColumnDefault("'" + DEFAULT_BOARD + "'")
+    @Column(nullable = false, length = 64)
+    private String boardId = DEFAULT_BOARD;
+
+    public Score(Long id, String playerName, int score, LocalDateTime dateTime) {
+        this(id, playerName, score, dateTime, DEFAULT_BOARD);
+    }
 }
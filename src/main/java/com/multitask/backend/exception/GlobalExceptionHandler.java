@@ -1,30 +1,76 @@
 package com.multitask.backend.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter securityErrors;
+    private final Counter badRequestErrors;
+    private final Counter notFoundErrors;
+    private final Counter overloadErrors;
+    private final Counter unexpectedErrors;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.securityErrors = errors(meterRegistry, "security");
+        this.badRequestErrors = errors(meterRegistry, "bad_request");
+        this.notFoundErrors = errors(meterRegistry, "not_found");
+        this.overloadErrors = errors(meterRegistry, "overload");
+        this.unexpectedErrors = errors(meterRegistry, "unexpected");
+    }
+
+    private static Counter errors(MeterRegistry meterRegistry, String category) {
+        return Counter.builder("api.errors")
+                .description("Requests that ended in an error response, by category")
+                .tag("category", category)
+                .register(meterRegistry);
+    }
+
     @ExceptionHandler(SecurityException.class)
     public ResponseEntity<Map<String, Object>> handleSecurityException(SecurityException ex) {
+        securityErrors.increment();
         log.warn("[SECURITY] Unauthorized access attempt: {}", ex.getMessage());
         return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException ex) {
+        badRequestErrors.increment();
         log.warn("[BAD_REQUEST] {}", ex.getMessage());
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException ex) {
+        notFoundErrors.increment();
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    // Full ingestion queue or no free pooled connection within the Hikari connection timeout
+    @ExceptionHandler({RejectedExecutionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<Map<String, Object>> handleOverload(Exception ex) {
+        overloadErrors.increment();
+        log.warn("[OVERLOAD] {}", ex.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
+        unexpectedErrors.increment();
         log.error("[ERROR] Unexpected error", ex);
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
@@ -0,0 +1,165 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Top scores of each board other than the default, loaded on first use and kept for at
+ * most {@code maxResident} boards; the least recently used one is evicted beyond that.
+ * Boards are independent, so writes to different boards never share a lock, and offers
+ * below a board's threshold take none at all.
+ * <p>
+ * A score for a board that is not resident is dropped: it is already committed, so the
+ * load that makes the board resident reads it from the database.
+ * <p>
+ * A board whose load finds no scores never becomes resident, so unknown ids cannot evict
+ * real boards. It is remembered as empty for a short while instead, in a separate map of
+ * the same bound, and forgotten as soon as a score is offered to it.
+ */
+public class BoardLeaderboards {
+
+    private static final long EMPTY_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final int capacity;
+    private final int maxResident;
+    private final Function<String, List<Score>> loader;
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    // Board id to the System.nanoTime() at which its empty result expires
+    private final Map<String, Long> emptyBoards = new ConcurrentHashMap<>();
+    // Logical clock for recency, cheaper than reading the system clock on every access
+    private final AtomicLong ticks = new AtomicLong();
+
+    public BoardLeaderboards(int capacity, int maxResident, Function<String, List<Score>> loader) {
+        if (maxResident <= 0) {
+            throw new IllegalArgumentException("maxResident must be positive");
+        }
+        this.capacity = capacity;
+        this.maxResident = maxResident;
+        this.loader = loader;
+    }
+
+    public List<Score> top(String boardId) {
+        Board board = boards.get(boardId);
+        if (board == null) {
+            Long emptyUntil = emptyBoards.get(boardId);
+            if (emptyUntil != null) {
+                if (System.nanoTime() - emptyUntil < 0) {
+                    return List.of();
+                }
+                emptyBoards.remove(boardId, emptyUntil);
+            }
+            board = boards.computeIfAbsent(boardId, id -> new Board(new TopScoresBoard(capacity)));
+        }
+        board.lastUsed = ticks.incrementAndGet();
+        if (board.ensureLoaded(boardId)) {
+            if (board.scores.top().isEmpty() && forgetIfEmpty(boardId, board)) {
+                return List.of();
+            }
+            evictIfFull(boardId);
+        }
+        return board.scores.top();
+    }
+
+    public void offer(Score score) {
+        String boardId = score.getBoardId();
+        boards.computeIfPresent(boardId, (id, board) -> {
+            // Also fine while the board is loading: the board keeps each id once
+            board.scores.offer(score);
+            board.lastUsed = ticks.incrementAndGet();
+            return board;
+        });
+        // Only after the offer: a top() that dropped the board as empty has remembered it by now
+        emptyBoards.remove(boardId);
+    }
+
+    public int residentCount() {
+        return (int) boards.values().stream().filter(board -> board.loaded).count();
+    }
+
+    // Linear scan, but only when a board becomes resident, which reads the database anyway.
+    // Boards still loading are neither counted nor evicted, so concurrent loads of empty ids cannot push real ones out
+    private void evictIfFull(String keep) {
+        while (true) {
+            int resident = 0;
+            String coldest = null;
+            long oldest = Long.MAX_VALUE;
+            for (Map.Entry<String, Board> entry : boards.entrySet()) {
+                Board board = entry.getValue();
+                if (!board.loaded) {
+                    continue;
+                }
+                resident++;
+                if (!entry.getKey().equals(keep) && board.lastUsed < oldest) {
+                    oldest = board.lastUsed;
+                    coldest = entry.getKey();
+                }
+            }
+            if (resident <= maxResident || coldest == null) {
+                return;
+            }
+            boards.remove(coldest);
+        }
+    }
+
+    // Atomic with offer(), so a first score offered after the load cannot be dropped with the board
+    private boolean forgetIfEmpty(String boardId, Board board) {
+        boolean[] forgotten = new boolean[1];
+        boards.computeIfPresent(boardId, (id, current) -> {
+            if (current != board || !current.scores.top().isEmpty()) {
+                return current;
+            }
+            rememberEmpty(id);
+            forgotten[0] = true;
+            return null;
+        });
+        return forgotten[0];
+    }
+
+    private void rememberEmpty(String boardId) {
+        long now = System.nanoTime();
+        if (emptyBoards.size() >= maxResident) {
+            emptyBoards.values().removeIf(until -> now - until >= 0);
+            if (emptyBoards.size() >= maxResident) {
+                // Flooded with unknown ids: keep answering them from the database rather than grow
+                return;
+            }
+        }
+        emptyBoards.put(boardId, now + EMPTY_TTL_NANOS);
+    }
+
+    private final class Board {
+        private final TopScoresBoard scores;
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile boolean loaded;
+        private volatile long lastUsed;
+
+        private Board(TopScoresBoard scores) {
+            this.scores = scores;
+        }
+
+        // True for the one call that performed the load
+        private boolean ensureLoaded(String boardId) {
+            if (loaded) {
+                return false;
+            }
+            loadLock.lock();
+            try {
+                if (loaded) {
+                    return false;
+                }
+                loader.apply(boardId).forEach(scores::offer);
+                loaded = true;
+                return true;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+}
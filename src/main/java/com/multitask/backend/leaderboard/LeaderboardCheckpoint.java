@@ -0,0 +1,14 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leaderboard state as of {@code takenAt} (epoch seconds). Every row with an id up to
+ * {@code highWaterId} that committed before the checkpoint is reflected in it.
+ */
+public record LeaderboardCheckpoint(long takenAt, long highWaterId, List<Score> topScores,
+                                    Map<String, Integer> bestByPlayer) {
+}
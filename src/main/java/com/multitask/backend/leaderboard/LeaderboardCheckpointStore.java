@@ -0,0 +1,160 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary checkpoint file of the leaderboard state, so a restart can skip the full table scan.
+ * Disabled unless {@code app.checkpoint.path} is set.
+ * <p>
+ * Layout (big-endian): magic, format version, takenAt, highWaterId, top score count and
+ * entries (id, score, dateTime, name), player count and entries (score, name), CRC32 of
+ * everything before it. Names are length-prefixed UTF-8. Files are written to a temporary
+ * sibling and atomically renamed, and read through a read-only memory mapping.
+ */
+@Component
+@Slf4j
+public class LeaderboardCheckpointStore {
+
+    private static final int MAGIC = 0x4D544C42; // "MTLB"
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    public LeaderboardCheckpointStore(@Value("${app.checkpoint.path:}") String path) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * @return empty if disabled, missing, or unreadable (a corrupt file is logged and ignored)
+     */
+    public Optional<LeaderboardCheckpoint> read() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[CHECKPOINT] Ignoring unreadable checkpoint {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    public void write(LeaderboardCheckpoint checkpoint) throws IOException {
+        if (path == null) {
+            return;
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16))) {
+                encode(checkpoint, out);
+                out.flush();
+                out.writeLong(crc.getValue());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void encode(LeaderboardCheckpoint checkpoint, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(checkpoint.takenAt());
+        out.writeLong(checkpoint.highWaterId());
+        out.writeInt(checkpoint.topScores().size());
+        for (Score score : checkpoint.topScores()) {
+            out.writeLong(score.getId() == null ? 0 : score.getId());
+            out.writeInt(score.getScore());
+            out.writeLong(score.getDateTime().toEpochSecond(ZoneOffset.UTC));
+            writeName(out, score.getPlayerName());
+        }
+        // Copied first: the map may be live, and the count has to match the entries that follow
+        List<Map.Entry<String, Integer>> bests = new ArrayList<>(checkpoint.bestByPlayer().entrySet());
+        out.writeInt(bests.size());
+        for (Map.Entry<String, Integer> best : bests) {
+            out.writeInt(best.getValue());
+            writeName(out, best.getKey());
+        }
+    }
+
+    private static LeaderboardCheckpoint decode(ByteBuffer buffer) {
+        int payloadLength = buffer.limit() - Long.BYTES;
+        if (payloadLength < 0) {
+            throw new IllegalStateException("Truncated checkpoint");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(payloadLength));
+        if (crc.getValue() != buffer.getLong(payloadLength)) {
+            throw new IllegalStateException("Checksum mismatch");
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unknown checkpoint format");
+        }
+        long takenAt = buffer.getLong();
+        long highWaterId = buffer.getLong();
+        int topCount = buffer.getInt();
+        List<Score> top = new ArrayList<>(topCount);
+        for (int i = 0; i < topCount; i++) {
+            long id = buffer.getLong();
+            int score = buffer.getInt();
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            top.add(new Score(id, readName(buffer), score, dateTime));
+        }
+        int playerCount = buffer.getInt();
+        Map<String, Integer> bests = new HashMap<>(playerCount * 4 / 3 + 1);
+        for (int i = 0; i < playerCount; i++) {
+            int score = buffer.getInt();
+            bests.put(readName(buffer), score);
+        }
+        return new LeaderboardCheckpoint(takenAt, highWaterId, top, bests);
+    }
+
+    private static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
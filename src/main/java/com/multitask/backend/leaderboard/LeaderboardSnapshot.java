@@ -0,0 +1,66 @@
+package com.multitask.backend.leaderboard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.ScoreDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable view of the leaderboard at one version, with its JSON body
+ * serialized (and gzipped) once so reads can write the bytes directly.
+ * The byte arrays are shared and must not be modified.
+ */
+public final class LeaderboardSnapshot {
+
+    private final long version;
+    private final List<ScoreDTO> scores;
+    private final byte[] json;
+    private final byte[] gzippedJson;
+
+    private LeaderboardSnapshot(long version, List<ScoreDTO> scores, byte[] json, byte[] gzippedJson) {
+        this.version = version;
+        this.scores = scores;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+    }
+
+    public static LeaderboardSnapshot of(long version, List<ScoreDTO> scores, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(scores);
+            return new LeaderboardSnapshot(version, List.copyOf(scores), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing leaderboard", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<ScoreDTO> getScores() {
+        return scores;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzippedJson() {
+        return gzippedJson;
+    }
+}
@@ -0,0 +1,168 @@
+package com.multitask.backend.leaderboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Order-statistic index over each player's best score: a Fenwick tree of
+ * player counts per score bucket. Updates and rank queries are O(log buckets)
+ * and lock-free on the tree. Ranks are exact when the bucket width is 1;
+ * scores outside [0, max-score] are clamped into the first or last bucket.
+ * Player names are also kept sorted for prefix search.
+ */
+@Component
+public class PlayerRankIndex {
+
+    private final int maxScore;
+    private final int bucketWidth;
+    private final int bucketCount;
+    private final AtomicIntegerArray tree;
+    private final ConcurrentHashMap<String, Integer> bestByPlayer = new ConcurrentHashMap<>();
+    // Sorted "lowercase name \0 name" keys, so a case-insensitive prefix is one contiguous range
+    private final ConcurrentSkipListSet<String> nameKeys = new ConcurrentSkipListSet<>();
+
+    public PlayerRankIndex(@Value("${app.rank.max-score:1000000}") int maxScore,
+                           @Value("${app.rank.bucket-width:1}") int bucketWidth) {
+        if (maxScore < 0 || bucketWidth <= 0) {
+            throw new IllegalArgumentException("Invalid rank index settings");
+        }
+        this.maxScore = maxScore;
+        this.bucketWidth = bucketWidth;
+        this.bucketCount = maxScore / bucketWidth + 1;
+        this.tree = new AtomicIntegerArray(bucketCount + 1);
+    }
+
+    /**
+     * Records a score for a player, keeping only the player's best.
+     *
+     * @return true if this became the player's best score
+     */
+    public boolean record(String playerName, int score) {
+        boolean[] improved = new boolean[1];
+        bestByPlayer.compute(playerName, (name, best) -> {
+            if (best != null && best >= score) {
+                return best;
+            }
+            if (best != null) {
+                add(bucketOf(best), -1);
+            } else {
+                nameKeys.add(normalize(name) + '\0' + name);
+            }
+            add(bucketOf(score), 1);
+            improved[0] = true;
+            return score;
+        });
+        return improved[0];
+    }
+
+    public OptionalInt bestScore(String playerName) {
+        Integer best = bestByPlayer.get(playerName);
+        return best == null ? OptionalInt.empty() : OptionalInt.of(best);
+    }
+
+    /**
+     * Number of players whose best score is strictly higher than the given score.
+     */
+    public int countAbove(int score) {
+        return prefixSum(bucketCount) - prefixSum(bucketOf(score) + 1);
+    }
+
+    /**
+     * Number of players whose best score is strictly lower than the given score.
+     */
+    public int countBelow(int score) {
+        return prefixSum(bucketOf(score));
+    }
+
+    /**
+     * Lowest score of the highest non-empty bucket, which is the top best score when the
+     * bucket width is 1, or empty if no player has a score.
+     */
+    public OptionalInt highestBest() {
+        int remaining = prefixSum(bucketCount);
+        if (remaining == 0) {
+            return OptionalInt.empty();
+        }
+        // Fenwick descent to the last bucket before the one holding the final player
+        int position = 0;
+        for (int step = Integer.highestOneBit(bucketCount); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= bucketCount && tree.get(next) < remaining) {
+                position = next;
+                remaining -= tree.get(next);
+            }
+        }
+        return OptionalInt.of(Math.min(position, bucketCount - 1) * bucketWidth);
+    }
+
+    public int bucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * 1-based rank of the player among all players, or empty if the player has no score.
+     */
+    public OptionalInt rank(String playerName) {
+        Integer best = bestByPlayer.get(playerName);
+        return best == null ? OptionalInt.empty() : OptionalInt.of(countAbove(best) + 1);
+    }
+
+    /**
+     * Up to {@code limit} player names starting with the prefix, ignoring case, in alphabetical order.
+     */
+    public List<String> playersWithPrefix(String prefix, int limit) {
+        String from = normalize(prefix);
+        List<String> names = new ArrayList<>(Math.min(limit, 64));
+        for (String key : nameKeys.subSet(from, from + Character.MAX_VALUE)) {
+            if (names.size() == limit) {
+                break;
+            }
+            names.add(key.substring(key.indexOf('\0') + 1));
+        }
+        return names;
+    }
+
+    /**
+     * Live, read-only view of each player's best score.
+     */
+    public Map<String, Integer> bestScores() {
+        return Collections.unmodifiableMap(bestByPlayer);
+    }
+
+    public int playerCount() {
+        return bestByPlayer.size();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private int bucketOf(int score) {
+        return Math.min(Math.max(score, 0), maxScore) / bucketWidth;
+    }
+
+    private void add(int bucket, int delta) {
+        for (int i = bucket + 1; i <= bucketCount; i += i & -i) {
+            tree.addAndGet(i, delta);
+        }
+    }
+
+    // Sum of the first n buckets
+    private int prefixSum(int n) {
+        int sum = 0;
+        for (int i = n; i > 0; i -= i & -i) {
+            sum += tree.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,85 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded, thread-safe top-K of scores ordered by score desc, id asc.
+ * Reads are a volatile load of an immutable snapshot; writes that cannot
+ * enter the board are rejected without taking the lock.
+ */
+public class TopScoresBoard {
+
+    public static final Comparator<Score> ORDER = Comparator
+            .comparingInt(Score::getScore).reversed()
+            .thenComparing(Score::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int capacity;
+    private final List<Score> entries;
+
+    private volatile List<Score> snapshot = List.of();
+    private volatile int threshold = Integer.MIN_VALUE;
+    private volatile long version;
+
+    public TopScoresBoard(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new ArrayList<>(capacity + 1);
+    }
+
+    /**
+     * Offers a persisted score. An entry with the same id is replaced.
+     *
+     * @return true if the board changed
+     */
+    public boolean offer(Score score) {
+        if (score.getScore() < threshold) {
+            return false;
+        }
+        synchronized (this) {
+            Score copy = new Score(score.getId(), score.getPlayerName(), score.getScore(), score.getDateTime(), score.getBoardId());
+            boolean replaced = copy.getId() != null
+                    && entries.removeIf(e -> Objects.equals(e.getId(), copy.getId()));
+            int pos = 0;
+            while (pos < entries.size() && ORDER.compare(entries.get(pos), copy) <= 0) {
+                pos++;
+            }
+            if (pos >= capacity) {
+                if (replaced) {
+                    publish();
+                }
+                return replaced;
+            }
+            entries.add(pos, copy);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+            }
+            publish();
+            return true;
+        }
+    }
+
+    private void publish() {
+        threshold = entries.size() == capacity ? entries.get(capacity - 1).getScore() : Integer.MIN_VALUE;
+        snapshot = List.copyOf(entries);
+        version++;
+    }
+
+    public List<Score> top() {
+        return snapshot;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
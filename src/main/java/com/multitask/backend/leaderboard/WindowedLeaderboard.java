@@ -0,0 +1,95 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.entity.Score;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Top-K for the current day or week, maintained incrementally from persisted scores.
+ * <p>
+ * When the clock passes the end of the window, the next caller rolls it over: a fresh
+ * board is seeded once from the database (scores dated inside the new window, which
+ * includes submissions dated ahead that the old board rejected) and published before
+ * any offer can reach it. Scores are committed before they are offered, so every row
+ * is either in that seed query or offered to the new board; duplicates are merged by id.
+ */
+public class WindowedLeaderboard {
+
+    private final LeaderboardWindow window;
+    private final int capacity;
+    private final Clock clock;
+    private final BiFunction<LocalDateTime, LocalDateTime, List<Score>> loader;
+    private final ReentrantLock rollLock = new ReentrantLock();
+
+    private volatile Period current;
+
+    public WindowedLeaderboard(LeaderboardWindow window, int capacity, Clock clock,
+                               BiFunction<LocalDateTime, LocalDateTime, List<Score>> loader) {
+        if (window == LeaderboardWindow.ALL) {
+            throw new IllegalArgumentException("The all-time board does not roll over");
+        }
+        this.window = window;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.loader = loader;
+    }
+
+    /**
+     * Offers a persisted score; scores dated outside the current window are ignored.
+     *
+     * @return true if the board changed
+     */
+    public boolean offer(Score score) {
+        Period period;
+        try {
+            period = current();
+        } catch (RuntimeException e) {
+            // The row is already stored, so the seed query of the next successful rollover includes it
+            return false;
+        }
+        LocalDateTime dateTime = score.getDateTime();
+        if (dateTime == null || dateTime.isBefore(period.start) || !dateTime.isBefore(period.end)) {
+            return false;
+        }
+        return period.board.offer(score);
+    }
+
+    public List<Score> top() {
+        return current().board.top();
+    }
+
+    public LocalDateTime windowStart() {
+        return current().start;
+    }
+
+    private Period current() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Period period = current;
+        if (period != null && now.isBefore(period.end)) {
+            return period;
+        }
+        rollLock.lock();
+        try {
+            period = current;
+            if (period == null || !now.isBefore(period.end)) {
+                LocalDateTime start = window.start(now);
+                LocalDateTime end = window.end(start);
+                TopScoresBoard board = new TopScoresBoard(capacity);
+                loader.apply(start, end).forEach(board::offer);
+                period = new Period(start, end, board);
+                current = period;
+            }
+            return period;
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    private record Period(LocalDateTime start, LocalDateTime end, TopScoresBoard board) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.multitask.backend.mapper;
+
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.entity.Score;
+import org.springframework.stereotype.Component;
+
+/**
+ * Explicit Score/ScoreDTO mapping with the same field semantics as the
+ * previous ModelMapper conversion, without reflection on the hot path.
+ * The one difference is the board id, which DTOs leave null for the default board.
+ */
+@Component
+public class ScoreMapper {
+
+    public ScoreDTO toDto(Score score) {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName(score.getPlayerName());
+        dto.setScore(score.getScore());
+        dto.setDateTime(score.getDateTime());
+        if (!Score.DEFAULT_BOARD.equals(score.getBoardId())) {
+            dto.setBoardId(score.getBoardId());
+        }
+        return dto;
+    }
+
+    public Score toEntity(ScoreDTO dto) {
+        Score score = new Score();
+        score.setPlayerName(dto.getPlayerName());
+        score.setScore(dto.getScore());
+        score.setDateTime(dto.getDateTime());
+        score.setBoardId(dto.getBoardId() == null ? Score.DEFAULT_BOARD : dto.getBoardId());
+        return score;
+    }
+}
@@ -1,10 +1,57 @@
 package com.multitask.backend.repository;
 
 import com.multitask.backend.entity.Score;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface ScoreRepository extends JpaRepository<Score, Long> {
-    List<Score> findTop10ByOrderByScoreDesc();
+public interface ScoreRepository extends JpaRepository<Score, Long>, ScoreRepositoryCustom {
+
+    // Loads of in-memory state must see every committed row, so unlike other reads they stay off the replica.
+    // Served by idx_scores_board_score_id
+    @Transactional
+    List<Score> findTop10ByBoardIdOrderByScoreDescIdAsc(String boardId);
+
+    // Served by idx_scores_board_score_id
+    List<Score> findByBoardIdOrderByScoreDescIdAsc(String boardId, Limit limit);
+
+    // Written as a range on score plus a residual filter so it can seek on idx_scores_board_score_id
+    @Query("select s from Score s where s.boardId = :boardId and s.score <= :score and (s.score < :score or s.id > :id)"
+            + " order by s.score desc, s.id asc")
+    List<Score> findPageAfter(@Param("boardId") String boardId, @Param("score") int score, @Param("id") long id, Limit limit);
+
+    // Seeds the default board's day/week boards at rollover; the range is served by idx_scores_date_time
+    @Transactional
+    @Query("select s from Score s where s.dateTime >= :from and s.dateTime < :to and s.boardId = '" + Score.DEFAULT_BOARD + "'"
+            + " order by s.score desc, s.id asc")
+    List<Score> findTopInWindow(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    @Query(value = "select score from scores where board_id = '" + Score.DEFAULT_BOARD + "'"
+            + " order by score desc, id limit 1 offset :offset", nativeQuery = true)
+    Optional<Integer> findScoreAtOffset(@Param("offset") int offset);
+
+    @Transactional
+    @Query("select s.playerName as playerName, max(s.score) as score from Score s"
+            + " where s.boardId = '" + Score.DEFAULT_BOARD + "' group by s.playerName")
+    List<PlayerBest> findBestScorePerPlayer();
+
+    @Transactional
+    @Query("select max(s.id) from Score s")
+    Optional<Long> findMaxId();
+
+    // Rows a leaderboard checkpoint may be missing: newer ids, plus recent rows whose commit may have lagged their id
+    @Transactional
+    @Query("select s from Score s where s.boardId = '" + Score.DEFAULT_BOARD + "' and (s.id > :id or s.dateTime >= :since)")
+    List<Score> findCheckpointTail(@Param("id") long id, @Param("since") LocalDateTime since);
+
+    interface PlayerBest {
+        String getPlayerName();
+        int getScore();
+    }
 }
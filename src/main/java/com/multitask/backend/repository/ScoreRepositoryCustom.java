@@ -0,0 +1,31 @@
+package com.multitask.backend.repository;
+
+import com.multitask.backend.entity.Score;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScoreRepositoryCustom {
+
+    /**
+     * Inserts all scores with multi-row INSERT statements and assigns the generated ids.
+     */
+    void insertAll(List<Score> scores);
+
+    /**
+     * Keeps only each player's best score: inserts new players and raises existing rows
+     * when the score improves, using the unique index on player_name. Scores that were
+     * stored get their row id; the others (not an improvement, or beaten by another score
+     * of the same player in the list) keep a null id.
+     */
+    void upsertBest(List<Score> scores);
+
+    /**
+     * Removes up to {@code limit} rows that no leaderboard can return: dated before {@code cutoff},
+     * scored below {@code belowScore} and beaten by another row of the same player. Rows locked by
+     * other transactions are skipped. With {@code archive}, removed rows are copied to scores_archive.
+     *
+     * @return the number of rows removed
+     */
+    int purgeBatch(LocalDateTime cutoff, int belowScore, int limit, boolean archive);
+}
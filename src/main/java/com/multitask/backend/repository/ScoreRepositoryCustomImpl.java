@@ -0,0 +1,142 @@
+package com.multitask.backend.repository;
+
+import com.multitask.backend.entity.Score;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScoreRepositoryCustomImpl implements ScoreRepositoryCustom {
+
+    // Keeps each upsert statement well below the 65535 bind parameter limit of the Postgres protocol, and bounds insert batches
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO scores (player_name, score, date_time, board_id) VALUES (?, ?, ?, ?)";
+
+    private static final String PURGE_LOCK_TIMEOUT = "200ms";
+
+    // Candidates come from idx_scores_date_time, the same-player check from idx_scores_player_score.
+    // Only the default board is purged: the keep-top threshold is computed on it
+    private static final String PURGE_SQL = "DELETE FROM scores WHERE id IN ("
+            + "SELECT s.id FROM scores s"
+            + " WHERE s.date_time < ? AND s.score < ? AND s.board_id = '" + Score.DEFAULT_BOARD + "'"
+            + " AND EXISTS (SELECT 1 FROM scores b WHERE b.player_name = s.player_name AND b.board_id = s.board_id"
+            + " AND (b.score > s.score OR (b.score = s.score AND b.id < s.id)))"
+            + " ORDER BY s.date_time LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    // Named rather than *, so the archive cannot silently drift from scores
+    private static final String ARCHIVE_COLUMNS = "id, player_name, score, date_time, board_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScoreRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Score> scores) {
+        for (int from = 0; from < scores.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(scores.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, scores.size())));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void upsertBest(List<Score> scores) {
+        // A statement may not update the same row twice, so only the best score per board and player is sent
+        Map<String, Score> best = new LinkedHashMap<>();
+        for (Score score : scores) {
+            best.merge(boardPlayerKey(score.getBoardId(), score.getPlayerName()), score, (current, candidate) ->
+                    candidate.getScore() > current.getScore() ? candidate : current);
+        }
+        List<Score> candidates = new ArrayList<>(best.values());
+        for (int from = 0; from < candidates.size(); from += MAX_ROWS_PER_STATEMENT) {
+            upsertChunk(candidates.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, candidates.size())), best);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int purgeBatch(LocalDateTime cutoff, int belowScore, int limit, boolean archive) {
+        // Never wait behind live writers: fail this batch instead, the next run retries
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + PURGE_LOCK_TIMEOUT + "'");
+        if (archive) {
+            return jdbcTemplate.update("WITH purged AS (" + PURGE_SQL + " RETURNING " + ARCHIVE_COLUMNS + ")"
+                    + " INSERT INTO scores_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM purged",
+                    Timestamp.valueOf(cutoff), belowScore, limit);
+        }
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff), belowScore, limit);
+    }
+
+    private void insertChunk(List<Score> chunk) {
+        // RETURNING of a multi-row VALUES insert has no documented order, so each row is its own
+        // statement in one batch, and getGeneratedKeys returns one key per statement in batch order
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Score score = chunk.get(i);
+                ps.setString(1, score.getPlayerName());
+                ps.setInt(2, score.getScore());
+                ps.setTimestamp(3, Timestamp.valueOf(score.getDateTime()));
+                ps.setString(4, score.getBoardId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        }, keys);
+
+        List<Map<String, Object>> ids = keys.getKeyList();
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(((Number) ids.get(i).get("id")).longValue());
+        }
+    }
+
+    private void upsertChunk(List<Score> chunk, Map<String, Score> byBoardPlayer) {
+        StringBuilder sql = valuesClause(chunk);
+        sql.append(" ON CONFLICT (board_id, player_name) DO UPDATE SET score = excluded.score, date_time = excluded.date_time")
+                .append(" WHERE excluded.score > scores.score")
+                .append(" RETURNING id, board_id, player_name");
+
+        // Rows skipped by the WHERE clause are not returned
+        jdbcTemplate.query(sql.toString(), rs -> {
+            byBoardPlayer.get(boardPlayerKey(rs.getString(2), rs.getString(3))).setId(rs.getLong(1));
+        }, valuesArgs(chunk));
+    }
+
+    private static String boardPlayerKey(String boardId, String playerName) {
+        return boardId + '\0' + playerName;
+    }
+
+    private static StringBuilder valuesClause(List<Score> chunk) {
+        StringBuilder sql = new StringBuilder("INSERT INTO scores (player_name, score, date_time, board_id) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+        }
+        return sql;
+    }
+
+    private static Object[] valuesArgs(List<Score> chunk) {
+        Object[] args = new Object[chunk.size() * 4];
+        for (int i = 0; i < chunk.size(); i++) {
+            Score score = chunk.get(i);
+            args[i * 4] = score.getPlayerName();
+            args[i * 4 + 1] = score.getScore();
+            args[i * 4 + 2] = Timestamp.valueOf(score.getDateTime());
+            args[i * 4 + 3] = score.getBoardId();
+        }
+        return args;
+    }
+}
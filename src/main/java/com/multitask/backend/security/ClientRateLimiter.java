@@ -0,0 +1,108 @@
+package com.multitask.backend.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client rate limits with separate read and write budgets.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the GCRA "theoretical
+ * arrival time", which behaves like a token bucket of {@code burst} tokens
+ * refilled at {@code perSecond}, updated with one CAS and no locks. A bucket
+ * whose arrival time is in the past is full, so idle buckets can be dropped
+ * without changing behaviour; this happens in a sweep at most every
+ * {@link #SWEEP_INTERVAL_NANOS}, run by whichever request gets there first.
+ */
+@Component
+public class ClientRateLimiter {
+
+    public enum Kind { READ, WRITE }
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final boolean enabled;
+    private final Limit readLimit;
+    private final Limit writeLimit;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicLong> readBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> writeBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    @Autowired
+    public ClientRateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${app.rate-limit.read-per-second:20}") double readPerSecond,
+                             @Value("${app.rate-limit.read-burst:40}") int readBurst,
+                             @Value("${app.rate-limit.write-per-second:1}") double writePerSecond,
+                             @Value("${app.rate-limit.write-burst:10}") int writeBurst) {
+        this(enabled, readPerSecond, readBurst, writePerSecond, writeBurst, System::nanoTime);
+    }
+
+    ClientRateLimiter(boolean enabled, double readPerSecond, int readBurst, double writePerSecond, int writeBurst,
+                      LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.readLimit = new Limit(readPerSecond, readBurst);
+        this.writeLimit = new Limit(writePerSecond, writeBurst);
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong() + SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * Takes one token from the client's bucket.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String client, Kind kind) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+
+        Limit limit = kind == Kind.WRITE ? writeLimit : readLimit;
+        AtomicLong bucket = (kind == Kind.WRITE ? writeBuckets : readBuckets)
+                .computeIfAbsent(client, key -> new AtomicLong(now));
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + limit.interval;
+            long wait = next - now - limit.tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int trackedClients() {
+        return readBuckets.size() + writeBuckets.size();
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        readBuckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+        writeBuckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+    }
+
+    private static final class Limit {
+        private final long interval;
+        private final long tolerance;
+
+        Limit(double perSecond, int burst) {
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Invalid rate limit settings");
+            }
+            this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+            this.tolerance = interval * burst;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.multitask.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Remembers accepted submissions until they leave the timestamp drift window,
+ * so a captured request cannot be replayed. A submission is identified by the
+ * signed fields (player, score, timestamp, board): the signature is a deterministic
+ * function of them, so this is equivalent to keying on the signature but
+ * independent of its hex casing. Entries are spread
+ * over lock stripes, each holding at most its share of {@code app.replay.max-entries}
+ * and bucketed by expiry, so exactly the entries that have left the window are dropped.
+ * A stripe that is still full after that refuses new submissions rather than forget one
+ * that could be replayed: the capacity must cover every submission accepted while its
+ * timestamp is valid.
+ */
+@Component
+public class ReplayGuard {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxEntries;
+    private final Counter rejected;
+    private final Counter full;
+
+    public ReplayGuard(@Value("${app.replay.max-entries:200000}") int maxEntries, MeterRegistry meterRegistry) {
+        if (maxEntries < STRIPES) {
+            throw new IllegalArgumentException("app.replay.max-entries must be at least " + STRIPES);
+        }
+        this.maxEntries = maxEntries;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxEntries / STRIPES);
+        }
+        Gauge.builder("scores.replay.entries", this, ReplayGuard::size)
+                .description("Submissions currently remembered for replay protection")
+                .register(meterRegistry);
+        Gauge.builder("scores.replay.capacity", this, guard -> guard.maxEntries)
+                .register(meterRegistry);
+        rejected = Counter.builder("scores.replay.rejected")
+                .description("Submissions rejected as replays")
+                .register(meterRegistry);
+        full = Counter.builder("scores.replay.full")
+                .description("Submissions refused because the guard was full of unexpired entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a submission that stays replayable until {@code expiresAt} (epoch seconds).
+     *
+     * @return false if the same submission was already recorded and has not expired
+     * @throws RejectedExecutionException if the guard is full of unexpired submissions
+     */
+    public boolean tryRecord(String playerName, int score, long timestamp, long expiresAt, long now) {
+        return tryRecord(playerName, score, timestamp, null, expiresAt, now);
+    }
+
+    /**
+     * Same as {@link #tryRecord(String, int, long, long, long)} for a board, null being the default board.
+     */
+    public boolean tryRecord(String playerName, int score, long timestamp, String boardId, long expiresAt, long now) {
+        Fingerprint fingerprint = new Fingerprint(playerName, score, timestamp, boardId);
+        boolean recorded = stripeFor(fingerprint).add(fingerprint, expiresAt, now);
+        if (!recorded) {
+            rejected.increment();
+        }
+        return recorded;
+    }
+
+    /**
+     * Forgets a submission, e.g. when it could not be persisted and the client may retry.
+     */
+    public void forget(String playerName, int score, long timestamp) {
+        forget(playerName, score, timestamp, null);
+    }
+
+    public void forget(String playerName, int score, long timestamp, String boardId) {
+        Fingerprint fingerprint = new Fingerprint(playerName, score, timestamp, boardId);
+        stripeFor(fingerprint).remove(fingerprint);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(Fingerprint fingerprint) {
+        return stripes[(fingerprint.hashCode() >>> 26) & (STRIPES - 1)];
+    }
+
+    private final class Stripe {
+        private final int capacity;
+        private final Map<Fingerprint, Long> entries = new HashMap<>();
+        // Entries by expiry second: submissions do not arrive in expiry order, their timestamps may be an hour apart
+        private final TreeMap<Long, Set<Fingerprint>> byExpiry = new TreeMap<>();
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized boolean add(Fingerprint fingerprint, long expiresAt, long now) {
+            Iterator<Set<Fingerprint>> expired = byExpiry.headMap(now).values().iterator();
+            while (expired.hasNext()) {
+                entries.keySet().removeAll(expired.next());
+                expired.remove();
+            }
+            if (entries.containsKey(fingerprint)) {
+                return false;
+            }
+            if (entries.size() >= capacity) {
+                full.increment();
+                throw new RejectedExecutionException("Replay guard is full, retry later");
+            }
+            entries.put(fingerprint, expiresAt);
+            byExpiry.computeIfAbsent(expiresAt, second -> new HashSet<>()).add(fingerprint);
+            return true;
+        }
+
+        synchronized void remove(Fingerprint fingerprint) {
+            Long expiresAt = entries.remove(fingerprint);
+            if (expiresAt != null) {
+                Set<Fingerprint> bucket = byExpiry.get(expiresAt);
+                bucket.remove(fingerprint);
+                if (bucket.isEmpty()) {
+                    byExpiry.remove(expiresAt);
+                }
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Fingerprint {
+        private final String playerName;
+        private final int score;
+        private final long timestamp;
+        private final String boardId;
+
+        private Fingerprint(String playerName, int score, long timestamp, String boardId) {
+            this.playerName = playerName;
+            this.score = score;
+            this.timestamp = timestamp;
+            this.boardId = boardId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Fingerprint that
+                    && score == that.score
+                    && timestamp == that.timestamp
+                    && playerName.equals(that.playerName)
+                    && Objects.equals(boardId, that.boardId);
+        }
+
+        @Override
+        public int hashCode() {
+            long mixed = ((playerName.hashCode() * 31L + Objects.hashCode(boardId)) * 31L + score) * 0x9E3779B97F4A7C15L + timestamp;
+            mixed *= 0xBF58476D1CE4E5B9L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
@@ -1,34 +1,270 @@
 package com.multitask.backend.security;
 
+import com.multitask.backend.domain.SignedScoreDTO;
+import com.multitask.backend.entity.Score;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Component
 public class ScoreSignatureValidator {
 
-    private final String secret;
+    /**
+     * LEGACY signs {@code sha256(username|score|timestamp + secret)}, HMAC signs
+     * {@code hmacSha256(secret, username|score|timestamp)}. Both are hex encoded.
+     * Scores for a board other than the default append {@code |boardId} to the signed fields.
+     */
+    public enum Mode { LEGACY, HMAC }
 
-    public ScoreSignatureValidator(@Value("${app.score-secret}") String secret) {
-        this.secret = secret;
+    private static final int SIGNATURE_BYTES = 32;
+    private static final int POOL_SLOTS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1; // power of two
+
+    private final byte[] secret;
+    private final Mode mode;
+
+    // Striped pool instead of a ThreadLocal: with virtual threads every request would get a new thread and a new Signer
+    private final AtomicReferenceArray<Signer> signers = new AtomicReferenceArray<>(POOL_SLOTS);
+
+    public ScoreSignatureValidator(String secret) {
+        this(secret, Mode.LEGACY);
+    }
+
+    @Autowired
+    public ScoreSignatureValidator(@Value("${app.score-secret}") String secret,
+                                   @Value("${app.score-signature.mode:legacy}") Mode mode) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
     }
 
     public String generarFirma(String username, int score, long timestamp) {
+        return generarFirma(username, score, timestamp, null);
+    }
+
+    /**
+     * @param boardId null for the default board
+     */
+    public String generarFirma(String username, int score, long timestamp, String boardId) {
+        int slot = slot();
+        Signer signer = acquire(slot);
         try {
-            String data = username + "|" + score + "|" + timestamp + secret;
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("Error generando firma", e);
+            signer.sign(username, score, timestamp, boardId);
+            return HexFormat.of().formatHex(signer.expected);
+        } finally {
+            release(slot, signer);
         }
     }
 
     public boolean validarFirma(String username, int score, long timestamp, String firmaRecibida) {
-        String firmaEsperada = generarFirma(username, score, timestamp);
-        return firmaEsperada.equals(firmaRecibida);
+        return validarFirma(username, score, timestamp, null, firmaRecibida);
+    }
+
+    /**
+     * @param boardId null for the default board
+     */
+    public boolean validarFirma(String username, int score, long timestamp, String boardId, String firmaRecibida) {
+        int slot = slot();
+        Signer signer = acquire(slot);
+        try {
+            if (!signer.decode(firmaRecibida)) {
+                return false;
+            }
+            signer.sign(username, score, timestamp, boardId);
+            return MessageDigest.isEqual(signer.expected, signer.received);
+        } finally {
+            release(slot, signer);
+        }
+    }
+
+    /**
+     * Validates a batch with one pooled signer, so the per-call pool handoff is paid once.
+     * Items with missing fields are invalid.
+     *
+     * @return validity of each item, by position
+     */
+    public boolean[] validarFirmas(List<SignedScoreDTO> scores) {
+        boolean[] valid = new boolean[scores.size()];
+        int slot = slot();
+        Signer signer = acquire(slot);
+        try {
+            for (int i = 0; i < valid.length; i++) {
+                SignedScoreDTO score = scores.get(i);
+                if (score == null || score.getPlayerName() == null || score.getDateTime() == null
+                        || !signer.decode(score.getSignature())) {
+                    continue;
+                }
+                signer.sign(score.getPlayerName(), score.getScore(), score.getTimestamp(), signedBoardId(score.getBoardId()));
+                valid[i] = MessageDigest.isEqual(signer.expected, signer.received);
+            }
+            return valid;
+        } finally {
+            release(slot, signer);
+        }
+    }
+
+    // The default board signs without a board id, whether or not the client names it
+    public static String signedBoardId(String boardId) {
+        return boardId == null || boardId.equals(Score.DEFAULT_BOARD) ? null : boardId;
+    }
+
+    private static int slot() {
+        int hash = Long.hashCode(Thread.currentThread().getId()) * 0x9E3779B9;
+        return (hash >>> 16) & (POOL_SLOTS - 1);
+    }
+
+    private Signer acquire(int slot) {
+        Signer signer = signers.getAndSet(slot, null);
+        return signer != null ? signer : new Signer();
+    }
+
+    private void release(int slot, Signer signer) {
+        signers.compareAndSet(slot, null, signer);
+    }
+
+    /**
+     * Digest state and scratch buffers, used by one thread at a time so signing does not allocate.
+     */
+    private final class Signer {
+        private final MessageDigest digest;
+        private final Mac mac;
+        private final byte[] expected = new byte[SIGNATURE_BYTES];
+        private final byte[] received = new byte[SIGNATURE_BYTES];
+        private final byte[] digits = new byte[20];
+        private byte[] buffer = new byte[128];
+
+        Signer() {
+            try {
+                if (mode == Mode.HMAC) {
+                    mac = Mac.getInstance("HmacSHA256");
+                    mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+                    digest = null;
+                } else {
+                    digest = MessageDigest.getInstance("SHA-256");
+                    mac = null;
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Error inicializando firma", e);
+            }
+        }
+
+        void sign(String username, int score, long timestamp, String boardId) {
+            int length = writePayload(username, score, timestamp);
+            if (boardId != null) {
+                length = appendBoardId(boardId, length);
+            }
+            try {
+                if (mac != null) {
+                    mac.update(buffer, 0, length);
+                    mac.doFinal(expected, 0);
+                } else {
+                    digest.update(buffer, 0, length);
+                    digest.update(secret);
+                    digest.digest(expected, 0, SIGNATURE_BYTES);
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Error generando firma", e);
+            }
+        }
+
+        // Writes "username|score|timestamp" as UTF-8 into the buffer and returns its length
+        private int writePayload(String username, int score, long timestamp) {
+            int nameLength = username.length();
+            ensureCapacity(nameLength * 3 + 2 * digits.length + 2);
+            int pos = 0;
+            for (int i = 0; i < nameLength; i++) {
+                char c = username.charAt(i);
+                if (c >= 0x80) {
+                    return writePayloadSlow(username, score, timestamp);
+                }
+                buffer[pos++] = (byte) c;
+            }
+            buffer[pos++] = '|';
+            pos = writeDecimal(score, pos);
+            buffer[pos++] = '|';
+            return writeDecimal(timestamp, pos);
+        }
+
+        private int writePayloadSlow(String username, int score, long timestamp) {
+            byte[] name = username.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(name.length + 2 * digits.length + 2);
+            System.arraycopy(name, 0, buffer, 0, name.length);
+            int pos = name.length;
+            buffer[pos++] = '|';
+            pos = writeDecimal(score, pos);
+            buffer[pos++] = '|';
+            return writeDecimal(timestamp, pos);
+        }
+
+        // Same output as Long.toString, computed on negative values so Long.MIN_VALUE is handled
+        private int writeDecimal(long value, int pos) {
+            boolean negative = value < 0;
+            long remaining = negative ? value : -value;
+            int start = digits.length;
+            do {
+                digits[--start] = (byte) ('0' - (remaining % 10));
+                remaining /= 10;
+            } while (remaining != 0);
+            if (negative) {
+                buffer[pos++] = '-';
+            }
+            int count = digits.length - start;
+            System.arraycopy(digits, start, buffer, pos, count);
+            return pos + count;
+        }
+
+        private int appendBoardId(String boardId, int pos) {
+            byte[] board = boardId.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(pos + board.length + 1);
+            buffer[pos++] = '|';
+            System.arraycopy(board, 0, buffer, pos, board.length);
+            return pos + board.length;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+            }
+        }
+
+        boolean decode(String hex) {
+            if (hex == null || hex.length() != SIGNATURE_BYTES * 2) {
+                return false;
+            }
+            for (int i = 0; i < SIGNATURE_BYTES; i++) {
+                int high = hexValue(hex.charAt(2 * i));
+                int low = hexValue(hex.charAt(2 * i + 1));
+                if (high < 0 || low < 0) {
+                    return false;
+                }
+                received[i] = (byte) ((high << 4) | low);
+            }
+            return true;
+        }
+
+        private static int hexValue(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            }
+            if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
     }
 }
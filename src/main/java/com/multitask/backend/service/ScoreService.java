@@ -1,9 +1,64 @@
 package com.multitask.backend.service;
 
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.domain.PlayerRankDTO;
 import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.domain.ScoreDistributionDTO;
+import com.multitask.backend.domain.ScorePageDTO;
+import com.multitask.backend.domain.ScorePercentileDTO;
+import com.multitask.backend.domain.ScoreResultDTO;
+import com.multitask.backend.domain.SignedScoreDTO;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
 import java.util.List;
 
 public interface ScoreService {
-    void saveScore(ScoreDTO dto, String signature);
+    /**
+     * @return true if the score was persisted, false if it was only queued for write-behind ingestion
+     */
+    boolean saveScore(ScoreDTO dto, String signature);
+
+    /**
+     * Validates each signed score on its own and persists the valid ones together.
+     */
+    List<ScoreResultDTO> saveScores(List<SignedScoreDTO> scores);
+
     List<ScoreDTO> getTop10Scores();
+
+    /**
+     * Top 10 of one board; the default board is the same as {@link #getTop10Scores()}.
+     */
+    List<ScoreDTO> getTop10Scores(String boardId);
+
+    /**
+     * Current top 10 with its pre-serialized JSON body, rebuilt once per leaderboard change.
+     */
+    LeaderboardSnapshot getTop10Snapshot();
+
+    /**
+     * Counter that changes whenever the top 10 changes, without reading the leaderboard itself.
+     */
+    long getLeaderboardVersion();
+
+    /**
+     * Top 10 of the current UTC day, ISO week or all time.
+     */
+    List<ScoreDTO> getTopScores(LeaderboardWindow window);
+
+    ScorePageDTO getScores(int limit, String after);
+    PlayerRankDTO getPlayerRank(String playerName);
+
+    /**
+     * Players whose name starts with the prefix, ignoring case, with their best score and rank.
+     */
+    List<PlayerRankDTO> searchPlayers(String prefix, int limit);
+
+    /**
+     * Share of players whose best score is lower than the given score.
+     */
+    ScorePercentileDTO getPercentile(int score);
+
+    /**
+     * Players by best score, in at most the given number of equal-width buckets from 0 to the top score.
+     */
+    ScoreDistributionDTO getDistribution(int buckets);
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.multitask.backend.service.impl;
+
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
+import com.multitask.backend.service.ScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Pushes the top 10 to Server-Sent Events subscribers.
+ * <p>
+ * Connections are async servlet requests, so idle subscribers hold no thread.
+ * A periodic tick compares the leaderboard version and broadcasts at most once
+ * per tick, which coalesces bursts of saves. Each subscriber has a one-slot
+ * mailbox and at most one send in flight: a slow client only ever receives
+ * the latest snapshot and cannot queue up work.
+ * <p>
+ * Sends block on the client's socket, so they run on a pool of their own
+ * ({@code app.stream.send-threads}) rather than the shared task executor. Its
+ * queue holds one drain per subscriber at most, so handing off never blocks.
+ */
+@Component
+@Slf4j
+public class LeaderboardBroadcaster {
+
+    private static final long HEARTBEAT_NANOS = TimeUnit.SECONDS.toNanos(25);
+
+    private final ScoreService scoreService;
+    private final Executor executor;
+    private final int maxSubscribers;
+    private final Supplier<SseEmitter> emitters;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private volatile long broadcastVersion = -1;
+    private long lastHeartbeat = System.nanoTime();
+
+    @Autowired
+    public LeaderboardBroadcaster(ScoreService scoreService,
+                                  @Value("${app.stream.max-subscribers:10000}") int maxSubscribers,
+                                  @Value("${app.stream.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${app.stream.send-threads:16}") int sendThreads) {
+        this(scoreService, sendExecutor(sendThreads, maxSubscribers), maxSubscribers, () -> new SseEmitter(timeoutMs));
+    }
+
+    public LeaderboardBroadcaster(ScoreService scoreService, Executor executor, int maxSubscribers,
+                                  Supplier<SseEmitter> emitters) {
+        this.scoreService = scoreService;
+        this.executor = executor;
+        this.maxSubscribers = maxSubscribers;
+        this.emitters = emitters;
+    }
+
+    private static ExecutorService sendExecutor(int threads, int maxSubscribers) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(maxSubscribers, 1)), new CustomizableThreadFactory("sse-send-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers a new subscriber and queues the current leaderboard as its first event.
+     *
+     * @return empty if the subscriber limit is reached
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.offer(scoreService.getTop10Snapshot());
+        return Optional.of(emitter);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stream.coalesce-ms:250}")
+    public void broadcast() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long version = scoreService.getLeaderboardVersion();
+        if (version != broadcastVersion) {
+            LeaderboardSnapshot snapshot = scoreService.getTop10Snapshot();
+            broadcastVersion = snapshot.getVersion();
+            subscribers.forEach(subscriber -> subscriber.offer(snapshot));
+        }
+
+        // Comment lines keep proxies from closing idle streams and reveal dead clients
+        long now = System.nanoTime();
+        if (now - lastHeartbeat >= HEARTBEAT_NANOS) {
+            lastHeartbeat = now;
+            subscribers.forEach(Subscriber::heartbeat);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicReference<LeaderboardSnapshot> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        // Only touched by the single in-flight drain
+        private long sentVersion = -1;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(LeaderboardSnapshot snapshot) {
+            pending.set(snapshot);
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Only after shutdown: the queue has room for every subscriber's single drain
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    LeaderboardSnapshot snapshot = pending.getAndSet(null);
+                    if (snapshot != null && snapshot.getVersion() > sentVersion) {
+                        sentVersion = snapshot.getVersion();
+                        emitter.send(SseEmitter.event()
+                                .name("leaderboard")
+                                .id(Long.toString(snapshot.getVersion()))
+                                .data(snapshot.getJson(), MediaType.APPLICATION_JSON));
+                        heartbeatDue = false;
+                    } else if (snapshot == null && heartbeatDue) {
+                        heartbeatDue = false;
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    }
+                    sending.set(false);
+                } while ((pending.get() != null || heartbeatDue) && sending.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                log.debug("[STREAM] Dropped subscriber: {}", e.getMessage());
+            }
+        }
+    }
+}
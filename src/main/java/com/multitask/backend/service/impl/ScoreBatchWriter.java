@@ -0,0 +1,243 @@
+package com.multitask.backend.service.impl;
+
+import com.multitask.backend.entity.Score;
+import com.multitask.backend.repository.ScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind ingestion: validated scores are queued and a single background
+ * thread persists them with multi-row inserts. A failed batch is retried up to
+ * {@code app.ingestion.max-attempts} times before it is reported as lost.
+ * Disabled unless {@code app.ingestion.write-behind.enabled=true}.
+ */
+@Component
+@Slf4j
+public class ScoreBatchWriter implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+    private static final long RETRY_BACKOFF_MS = 200;
+
+    private final ScoreRepository scoreRepository;
+    private final boolean enabled;
+    private final boolean bestPerPlayer;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile Consumer<List<Score>> listener = batch -> { };
+    private volatile Consumer<List<Score>> failureListener = batch -> { };
+    private volatile boolean running;
+    private Thread worker;
+
+    public ScoreBatchWriter(ScoreRepository scoreRepository,
+                            @Value("${app.ingestion.write-behind.enabled:false}") boolean enabled,
+                            @Value("${app.ingestion.batch-size:200}") int batchSize,
+                            @Value("${app.ingestion.linger-ms:20}") long lingerMs,
+                            @Value("${app.ingestion.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.scores.best-per-player:false}") boolean bestPerPlayer,
+                            @Value("${app.ingestion.max-attempts:3}") int maxAttempts) {
+        if (batchSize <= 0 || queueCapacity <= 0 || lingerMs < 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Invalid write-behind ingestion settings");
+        }
+        this.scoreRepository = scoreRepository;
+        this.enabled = enabled;
+        this.bestPerPlayer = bestPerPlayer;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers the callback invoked with every batch after it has been persisted.
+     */
+    public void setListener(Consumer<List<Score>> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Registers the callback invoked with every batch that could not be persisted after all attempts.
+     */
+    public void setFailureListener(Consumer<List<Score>> failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * Queues a score for persistence.
+     *
+     * @throws RejectedExecutionException if the queue is full or the writer is stopped
+     */
+    public void submit(Score score) {
+        submit(score, () -> { });
+    }
+
+    /**
+     * Queues a score for persistence, running {@code onFailure} if its batch is dropped.
+     *
+     * @throws RejectedExecutionException if the queue is full or the writer is stopped
+     */
+    public void submit(Score score, Runnable onFailure) {
+        if (!running) {
+            throw new RejectedExecutionException("Score ingestion is not running");
+        }
+        if (!queue.offer(new Pending(score, onFailure))) {
+            throw new RejectedExecutionException("Score queue is full");
+        }
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "score-batch-writer");
+        worker.start();
+        log.info("[INGESTION] Write-behind enabled (batch size {}, linger {} ms, capacity {})",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos), queue.remainingCapacity());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.error("[INGESTION] Writer did not drain within {} ms, {} scores lost", SHUTDOWN_TIMEOUT_MS, queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server so in-flight requests can still enqueue, and drain before the datasource closes
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (queue.drainTo(batch, batchSize - batch.size()) == 0) {
+                        if (remaining <= 0 || !running) {
+                            break;
+                        }
+                        Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) throws InterruptedException {
+        List<Pending> pending = List.copyOf(batch);
+        List<Score> scores = pending.stream().map(Pending::score).toList();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                persist(scores);
+                break;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("[INGESTION] Failed to persist batch of {} scores after {} attempts, dropping it",
+                            scores.size(), attempt, e);
+                    notifyFailure(pending, scores);
+                    return;
+                }
+                log.warn("[INGESTION] Failed to persist batch of {} scores (attempt {} of {}): {}",
+                        scores.size(), attempt, maxAttempts, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException interrupted) {
+                    log.error("[INGESTION] Interrupted while retrying, dropping batch of {} scores", scores.size());
+                    notifyFailure(pending, scores);
+                    throw interrupted;
+                }
+            }
+        }
+        if (bestPerPlayer) {
+            // Only scores that became a player's best were stored
+            scores = scores.stream().filter(score -> score.getId() != null).toList();
+        }
+        try {
+            listener.accept(scores);
+        } catch (Exception e) {
+            log.error("[INGESTION] Listener failed for batch of {} scores", scores.size(), e);
+        }
+    }
+
+    private void persist(List<Score> scores) {
+        // A rolled back attempt may have assigned ids before it failed
+        scores.forEach(score -> score.setId(null));
+        if (bestPerPlayer) {
+            scoreRepository.upsertBest(scores);
+        } else {
+            scoreRepository.insertAll(scores);
+        }
+    }
+
+    private void notifyFailure(List<Pending> pending, List<Score> scores) {
+        try {
+            failureListener.accept(scores);
+        } catch (Exception e) {
+            log.error("[INGESTION] Failure listener failed for batch of {} scores", scores.size(), e);
+        }
+        for (Pending item : pending) {
+            try {
+                item.onFailure().run();
+            } catch (Exception e) {
+                log.error("[INGESTION] Failure callback failed for a score of {}", item.score().getPlayerName(), e);
+            }
+        }
+    }
+
+    private record Pending(Score score, Runnable onFailure) {
+    }
+}
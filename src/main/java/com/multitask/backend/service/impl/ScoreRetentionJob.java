@@ -0,0 +1,164 @@
+package com.multitask.backend.service.impl;
+
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.repository.ScoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deletes (or archives) rows that no endpoint can return any more: older than the
+ * retention period and the current week, below the all-time top {@code keep-top},
+ * and not their player's best score. Works in small transactions that skip locked
+ * rows and give up on lock waits, so live inserts are never blocked.
+ * A run can take minutes, so it goes to a thread of its own instead of holding
+ * the single scheduler thread the broadcaster and checkpoints also use.
+ * Disabled unless {@code app.retention.enabled=true}.
+ */
+@Component
+@Slf4j
+public class ScoreRetentionJob {
+
+    private final ScoreRepository scoreRepository;
+    private final Executor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Clock clock;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int keepTop;
+    private final int batchSize;
+    private final long pauseMs;
+    private final boolean archive;
+    private final Counter reclaimed;
+    private final Timer batchTimer;
+
+    @Autowired
+    public ScoreRetentionJob(ScoreRepository scoreRepository, MeterRegistry meterRegistry,
+                             @Value("${app.retention.enabled:false}") boolean enabled,
+                             @Value("${app.retention.days:30}") int retentionDays,
+                             @Value("${app.retention.keep-top:1000}") int keepTop,
+                             @Value("${app.retention.batch-size:500}") int batchSize,
+                             @Value("${app.retention.pause-ms:50}") long pauseMs,
+                             @Value("${app.retention.archive:false}") boolean archive) {
+        this(scoreRepository, meterRegistry, Executors.newSingleThreadExecutor(new CustomizableThreadFactory("score-retention-")),
+                Clock.systemUTC(), enabled, retentionDays, keepTop, batchSize, pauseMs, archive);
+    }
+
+    ScoreRetentionJob(ScoreRepository scoreRepository, MeterRegistry meterRegistry, Executor executor, Clock clock,
+                      boolean enabled, int retentionDays, int keepTop, int batchSize, long pauseMs, boolean archive) {
+        if (retentionDays < 1 || keepTop < 1 || batchSize < 1 || pauseMs < 0) {
+            throw new IllegalArgumentException("Invalid retention settings");
+        }
+        this.scoreRepository = scoreRepository;
+        this.executor = executor;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.keepTop = keepTop;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.archive = archive;
+        this.reclaimed = Counter.builder("scores.retention.reclaimed")
+                .description("Rows removed by the retention job")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("scores.retention.batch")
+                .description("Duration of each retention transaction, i.e. how long its row locks were held")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.retention.cron:0 30 3 * * *}", zone = "UTC")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[RETENTION] Previous run still in progress, skipping this one");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purge();
+            } catch (Exception e) {
+                log.warn("[RETENTION] Run aborted, will retry on the next schedule: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            // Interrupts the pause between batches, which ends the run
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs batches until one comes back short.
+     *
+     * @return the number of rows removed
+     */
+    public long purge() {
+        // Rows above the N-th best score may still be paged through or enter the top 10
+        Optional<Integer> threshold = scoreRepository.findScoreAtOffset(keepTop - 1);
+        if (threshold.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime weekStart = LeaderboardWindow.WEEK.start(now);
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        if (cutoff.isAfter(weekStart)) {
+            cutoff = weekStart;
+        }
+
+        long total = 0;
+        int batches = 0;
+        long maxBatchNanos = 0;
+        int removed;
+        do {
+            long start = System.nanoTime();
+            removed = scoreRepository.purgeBatch(cutoff, threshold.get(), batchSize, archive);
+            long elapsed = System.nanoTime() - start;
+            batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            reclaimed.increment(removed);
+            maxBatchNanos = Math.max(maxBatchNanos, elapsed);
+            total += removed;
+            batches++;
+        } while (removed == batchSize && pause());
+
+        log.info("[RETENTION] {} {} rows dated before {} and scored below {} in {} batches (longest {} ms)",
+                archive ? "Archived" : "Deleted", total, cutoff, threshold.get(), batches,
+                TimeUnit.NANOSECONDS.toMillis(maxBatchNanos));
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,32 +1,153 @@
 package com.multitask.backend.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.domain.PlayerRankDTO;
 import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.domain.ScoreDistributionDTO;
+import com.multitask.backend.domain.ScorePageDTO;
+import com.multitask.backend.domain.ScorePercentileDTO;
+import com.multitask.backend.domain.ScoreResultDTO;
+import com.multitask.backend.domain.SignedScoreDTO;
 import com.multitask.backend.entity.Score;
+import com.multitask.backend.leaderboard.BoardLeaderboards;
+import com.multitask.backend.leaderboard.LeaderboardCheckpoint;
+import com.multitask.backend.leaderboard.LeaderboardCheckpointStore;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
+import com.multitask.backend.leaderboard.PlayerRankIndex;
+import com.multitask.backend.leaderboard.TopScoresBoard;
+import com.multitask.backend.leaderboard.WindowedLeaderboard;
+import com.multitask.backend.mapper.ScoreMapper;
 import com.multitask.backend.repository.ScoreRepository;
+import com.multitask.backend.security.ReplayGuard;
 import com.multitask.backend.security.ScoreSignatureValidator;
 import com.multitask.backend.service.ScoreService;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
 @Service
+@Slf4j
 public class ScoreServiceImpl implements ScoreService {
     private final ScoreSignatureValidator signatureValidator;
     private final ScoreRepository scoreRepository;
-    private final ModelMapper modelMapper;
+    private final ScoreMapper scoreMapper;
+    private final ScoreBatchWriter batchWriter;
+    private final PlayerRankIndex rankIndex;
+    private final ReplayGuard replayGuard;
+    private final ObjectMapper objectMapper;
+    private final boolean bestPerPlayer;
+    private final LeaderboardCheckpointStore checkpointStore;
+
+    // Built once: looking meters up by name and tags on every call would cost more than most of the phases
+    private final Timer signatureTimer;
+    private final Timer timestampTimer;
+    private final Timer replayTimer;
+    private final Timer mappingTimer;
+    private final Timer persistTimer;
+    private final Timer top10Timer;
 
     private static final long MAX_TIMESTAMP_DRIFT_SECONDS = 60 * 60; //one hour
+    private static final int LEADERBOARD_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_DISTRIBUTION_BUCKETS = 100;
+    private static final int MAX_PLAYER_SEARCH_RESULTS = 50;
+    private static final Pattern BOARD_ID = Pattern.compile("[a-z0-9_-]{1,64}");
+    // A row is dated within the drift of its submission, so one that commits after a checkpoint is dated after this
+    private static final long CHECKPOINT_REPLAY_SECONDS = 2 * MAX_TIMESTAMP_DRIFT_SECONDS;
+
+    private final TopScoresBoard topScores = new TopScoresBoard(LEADERBOARD_SIZE);
+    private final Map<LeaderboardWindow, WindowedLeaderboard> windowBoards = new EnumMap<>(LeaderboardWindow.class);
+    // Boards other than the default; everything else in this class is about the default board
+    private final BoardLeaderboards boards;
+    // Not a monitor: the load does DB I/O and must not pin virtual threads to their carriers
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+    // Highest row id reflected in memory
+    private final AtomicLong highWaterId = new AtomicLong();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private volatile LeaderboardSnapshot snapshot;
 
-    public ScoreServiceImpl(ScoreRepository scoreRepository, ModelMapper modelMapper, ScoreSignatureValidator signatureValidator) {
+    public ScoreServiceImpl(ScoreRepository scoreRepository, ScoreMapper scoreMapper, ScoreSignatureValidator signatureValidator,
+                            ScoreBatchWriter batchWriter, PlayerRankIndex rankIndex, ReplayGuard replayGuard,
+                            ObjectMapper objectMapper, @Value("${app.scores.best-per-player:false}") boolean bestPerPlayer,
+                            MeterRegistry meterRegistry, LeaderboardCheckpointStore checkpointStore,
+                            @Value("${app.boards.max-resident:1000}") int maxResidentBoards) {
         this.scoreRepository = scoreRepository;
-        this.modelMapper = modelMapper;
+        this.scoreMapper = scoreMapper;
         this.signatureValidator = signatureValidator;
+        this.batchWriter = batchWriter;
+        this.rankIndex = rankIndex;
+        this.replayGuard = replayGuard;
+        this.objectMapper = objectMapper;
+        this.bestPerPlayer = bestPerPlayer;
+        this.checkpointStore = checkpointStore;
+        this.signatureTimer = phaseTimer(meterRegistry, "signature");
+        this.timestampTimer = phaseTimer(meterRegistry, "timestamp");
+        this.replayTimer = phaseTimer(meterRegistry, "replay");
+        this.mappingTimer = phaseTimer(meterRegistry, "mapping");
+        this.persistTimer = phaseTimer(meterRegistry, "persist");
+        this.top10Timer = Timer.builder("scores.top10")
+                .description("Time to return the current top 10 snapshot")
+                .register(meterRegistry);
+        for (LeaderboardWindow window : List.of(LeaderboardWindow.DAY, LeaderboardWindow.WEEK)) {
+            windowBoards.put(window, new WindowedLeaderboard(window, LEADERBOARD_SIZE, Clock.systemUTC(),
+                    (from, to) -> scoreRepository.findTopInWindow(from, to, Limit.of(LEADERBOARD_SIZE))));
+        }
+        this.boards = new BoardLeaderboards(LEADERBOARD_SIZE, maxResidentBoards,
+                scoreRepository::findTop10ByBoardIdOrderByScoreDescIdAsc);
+        batchWriter.setListener(batch -> batch.forEach(this::onPersisted));
+        Counter droppedCounter = Counter.builder("scores.ingestion.dropped")
+                .description("Queued scores that could not be persisted")
+                .register(meterRegistry);
+        batchWriter.setFailureListener(batch -> droppedCounter.increment(batch.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            ensureLoaded();
+            windowBoards.values().forEach(WindowedLeaderboard::top);
+            log.info("[LEADERBOARD] Loaded {} top scores and {} players", topScores.top().size(), rankIndex.playerCount());
+        } catch (Exception e) {
+            log.warn("[LEADERBOARD] Initial load failed, will retry on first request: {}", e.getMessage());
+        }
     }
 
     @Override
-    public void saveScore(ScoreDTO dto, String signature) {
-        boolean validSignature = signatureValidator.validarFirma(dto.getPlayerName(), dto.getScore(), dto.getTimestamp(), signature);
+    public boolean saveScore(ScoreDTO dto, String signature) {
+        requireValidBoardId(dto.getBoardId());
+        long start = System.nanoTime();
+        boolean validSignature = signatureValidator.validarFirma(dto.getPlayerName(), dto.getScore(), dto.getTimestamp(),
+                ScoreSignatureValidator.signedBoardId(dto.getBoardId()), signature);
+        long lap = lap(signatureTimer, start);
 
         if (!validSignature) {
             throw new SecurityException("Invalid signature");
@@ -36,23 +157,399 @@ public class ScoreServiceImpl implements ScoreService {
         if (Math.abs(now - dto.getTimestamp()) > MAX_TIMESTAMP_DRIFT_SECONDS) {
             throw new IllegalArgumentException("Invalid timestamp");
         }
+        lap = lap(timestampTimer, lap);
+
+        // Load before inserting so the initial DB read can never include a row that is also offered below
+        ensureLoaded();
+
+        if (!replayGuard.tryRecord(dto.getPlayerName(), dto.getScore(), dto.getTimestamp(),
+                ScoreSignatureValidator.signedBoardId(dto.getBoardId()), dto.getTimestamp() + MAX_TIMESTAMP_DRIFT_SECONDS, now)) {
+            throw new SecurityException("Duplicate submission");
+        }
+        lap = lap(replayTimer, lap);
 
         Score score = convertToEntity(dto);
-        scoreRepository.save(score);
+        lap = lap(mappingTimer, lap);
+        try {
+            if (batchWriter.isEnabled()) {
+                // A dropped batch must not leave the guard rejecting the client's retry
+                batchWriter.submit(score, () -> forget(dto));
+                return false;
+            }
+            if (bestPerPlayer) {
+                scoreRepository.upsertBest(List.of(score));
+                if (score.getId() == null) {
+                    // The player already has a better score, nothing changed
+                    return true;
+                }
+            } else {
+                scoreRepository.save(score);
+            }
+        } catch (RuntimeException e) {
+            forget(dto);
+            throw e;
+        } finally {
+            lap(persistTimer, lap);
+        }
+        onPersisted(score);
+        return true;
+    }
+
+    @Override
+    public List<ScoreResultDTO> saveScores(List<SignedScoreDTO> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " scores");
+        }
+        boolean[] validSignatures = signatureValidator.validarFirmas(dtos);
+        long now = Instant.now().getEpochSecond();
+        ensureLoaded();
+
+        ScoreResultDTO[] results = new ScoreResultDTO[dtos.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(dtos.size());
+        List<Score> accepted = new ArrayList<>(dtos.size());
+        for (int i = 0; i < results.length; i++) {
+            SignedScoreDTO dto = dtos.get(i);
+            String error = null;
+            if (dto != null && !isValidBoardId(dto.getBoardId())) {
+                error = "Invalid board id";
+            } else if (!validSignatures[i]) {
+                error = "Invalid signature";
+            } else if (Math.abs(now - dto.getTimestamp()) > MAX_TIMESTAMP_DRIFT_SECONDS) {
+                error = "Invalid timestamp";
+            } else {
+                error = recordSubmission(dto, now);
+            }
+            if (error != null) {
+                results[i] = new ScoreResultDTO(i, ScoreResultDTO.Status.REJECTED, error);
+                continue;
+            }
+            results[i] = new ScoreResultDTO(i, ScoreResultDTO.Status.ACCEPTED, null);
+            acceptedIndexes.add(i);
+            accepted.add(convertToEntity(dto));
+        }
+
+        if (!accepted.isEmpty()) {
+            persistBatch(dtos, acceptedIndexes, accepted, results);
+        }
+        return List.of(results);
+    }
+
+    private void persistBatch(List<SignedScoreDTO> dtos, List<Integer> indexes, List<Score> scores, ScoreResultDTO[] results) {
+        if (batchWriter.isEnabled()) {
+            for (int i = 0; i < scores.size(); i++) {
+                SignedScoreDTO dto = dtos.get(indexes.get(i));
+                try {
+                    batchWriter.submit(scores.get(i), () -> forget(dto));
+                } catch (RejectedExecutionException e) {
+                    // The queue filled up part way: the rest can be retried later
+                    for (int j = i; j < scores.size(); j++) {
+                        int index = indexes.get(j);
+                        forget(dtos.get(index));
+                        results[index] = new ScoreResultDTO(index, ScoreResultDTO.Status.REJECTED, e.getMessage());
+                    }
+                    return;
+                }
+            }
+            return;
+        }
+
+        try {
+            if (bestPerPlayer) {
+                scoreRepository.upsertBest(scores);
+            } else {
+                scoreRepository.insertAll(scores);
+            }
+        } catch (RuntimeException e) {
+            indexes.forEach(index -> forget(dtos.get(index)));
+            throw e;
+        }
+        scores.stream()
+                .filter(score -> score.getId() != null)
+                .forEach(this::onPersisted);
+    }
+
+    // Null once recorded, otherwise the reason the submission is rejected
+    private String recordSubmission(ScoreDTO dto, long now) {
+        try {
+            return replayGuard.tryRecord(dto.getPlayerName(), dto.getScore(), dto.getTimestamp(),
+                    ScoreSignatureValidator.signedBoardId(dto.getBoardId()), dto.getTimestamp() + MAX_TIMESTAMP_DRIFT_SECONDS, now)
+                    ? null : "Duplicate submission";
+        } catch (RejectedExecutionException e) {
+            // The guard is full: retrying later beats accepting a submission it could not remember
+            return e.getMessage();
+        }
+    }
+
+    private void forget(ScoreDTO dto) {
+        replayGuard.forget(dto.getPlayerName(), dto.getScore(), dto.getTimestamp(),
+                ScoreSignatureValidator.signedBoardId(dto.getBoardId()));
     }
 
     @Override
     public List<ScoreDTO> getTop10Scores() {
-        return scoreRepository.findTop10ByOrderByScoreDesc().stream()
+        return getTop10Snapshot().getScores();
+    }
+
+    @Override
+    public List<ScoreDTO> getTop10Scores(String boardId) {
+        requireValidBoardId(boardId);
+        if (boardId.equals(Score.DEFAULT_BOARD)) {
+            return getTop10Scores();
+        }
+        return boards.top(boardId).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    private static boolean isValidBoardId(String boardId) {
+        return boardId == null || BOARD_ID.matcher(boardId).matches();
+    }
+
+    private static void requireValidBoardId(String boardId) {
+        if (!isValidBoardId(boardId)) {
+            throw new IllegalArgumentException("Board id must be 1 to 64 characters of a-z, 0-9, _ or -");
+        }
+    }
+
+    @Override
+    public LeaderboardSnapshot getTop10Snapshot() {
+        long start = System.nanoTime();
+        try {
+            return currentSnapshot();
+        } finally {
+            lap(top10Timer, start);
+        }
+    }
+
+    private LeaderboardSnapshot currentSnapshot() {
+        ensureLoaded();
+        LeaderboardSnapshot current = snapshot;
+        if (current != null && current.getVersion() == topScores.version()) {
+            return current;
+        }
+        // One thread rebuilds per version, concurrent readers wait for it instead of serializing too
+        snapshotLock.lock();
+        try {
+            long version = topScores.version();
+            current = snapshot;
+            if (current == null || current.getVersion() != version) {
+                current = LeaderboardSnapshot.of(version, topScores.top().stream()
+                        .map(this::convertToDto)
+                        .toList(), objectMapper);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public long getLeaderboardVersion() {
+        ensureLoaded();
+        return topScores.version();
+    }
+
+    @Override
+    public List<ScoreDTO> getTopScores(LeaderboardWindow window) {
+        if (window == LeaderboardWindow.ALL) {
+            return getTop10Scores();
+        }
+        return windowBoards.get(window).top().stream()
                 .map(this::convertToDto)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ScorePageDTO getScores(int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Score> page;
+        if (after == null || after.isBlank()) {
+            page = scoreRepository.findByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD, Limit.of(limit));
+        } else {
+            String[] cursor = after.split(",", 2);
+            try {
+                page = scoreRepository.findPageAfter(Score.DEFAULT_BOARD, Integer.parseInt(cursor[0].trim()),
+                        Long.parseLong(cursor[1].trim()), Limit.of(limit));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+        }
+
+        String next = null;
+        if (page.size() == limit) {
+            Score last = page.get(page.size() - 1);
+            next = last.getScore() + "," + last.getId();
+        }
+        return new ScorePageDTO(page.stream().map(this::convertToDto).toList(), next);
+    }
+
+    @Override
+    public PlayerRankDTO getPlayerRank(String playerName) {
+        ensureLoaded();
+        OptionalInt best = rankIndex.bestScore(playerName);
+        if (best.isEmpty()) {
+            throw new NoSuchElementException("No scores for player " + playerName);
+        }
+        return new PlayerRankDTO(playerName, best.getAsInt(), rankIndex.countAbove(best.getAsInt()) + 1);
+    }
+
+    @Override
+    public List<PlayerRankDTO> searchPlayers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("prefix must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PLAYER_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PLAYER_SEARCH_RESULTS);
+        }
+        ensureLoaded();
+        List<PlayerRankDTO> players = new ArrayList<>();
+        for (String playerName : rankIndex.playersWithPrefix(prefix, limit)) {
+            OptionalInt best = rankIndex.bestScore(playerName);
+            if (best.isPresent()) {
+                players.add(new PlayerRankDTO(playerName, best.getAsInt(), rankIndex.countAbove(best.getAsInt()) + 1));
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public ScorePercentileDTO getPercentile(int score) {
+        ensureLoaded();
+        int players = rankIndex.playerCount();
+        int below = Math.min(rankIndex.countBelow(score), players);
+        double percentile = players == 0 ? 0 : Math.round(1000.0 * below / players) / 10.0;
+        return new ScorePercentileDTO(score, players, below, percentile);
+    }
+
+    @Override
+    public ScoreDistributionDTO getDistribution(int buckets) {
+        if (buckets < 1 || buckets > MAX_DISTRIBUTION_BUCKETS) {
+            throw new IllegalArgumentException("buckets must be between 1 and " + MAX_DISTRIBUTION_BUCKETS);
+        }
+        ensureLoaded();
+        OptionalInt highest = rankIndex.highestBest();
+        if (highest.isEmpty()) {
+            return new ScoreDistributionDTO(0, List.of());
+        }
+        // Widths are whole index buckets, so every count below is exact for the index
+        int indexWidth = rankIndex.bucketWidth();
+        int upper = highest.getAsInt() + indexWidth;
+        int units = -Math.floorDiv(-upper, indexWidth);
+        int width = -Math.floorDiv(-units, buckets) * indexWidth;
+
+        int players = rankIndex.playerCount();
+        List<ScoreDistributionDTO.Bucket> result = new ArrayList<>(buckets);
+        int counted = 0;
+        for (int from = 0; from < upper; from += width) {
+            int to = from + width;
+            int cumulative = to >= upper ? players : Math.min(rankIndex.countBelow(to), players);
+            result.add(new ScoreDistributionDTO.Bucket(from, to, Math.max(cumulative - counted, 0)));
+            counted = Math.max(cumulative, counted);
+        }
+        return new ScoreDistributionDTO(players, result);
+    }
+
+    private void onPersisted(Score score) {
+        if (!Score.DEFAULT_BOARD.equals(score.getBoardId())) {
+            boards.offer(score);
+            return;
+        }
+        topScores.offer(score);
+        windowBoards.values().forEach(board -> board.offer(score));
+        rankIndex.record(score.getPlayerName(), score.getScore());
+        if (score.getId() != null) {
+            highWaterId.accumulateAndGet(score.getId(), Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.checkpoint.interval-ms:60000}", initialDelayString = "${app.checkpoint.interval-ms:60000}")
+    public void writeCheckpoint() {
+        if (!checkpointStore.isEnabled() || !loaded) {
+            return;
+        }
+        // Read before the state, so everything up to this point is either in the file or replayed on load
+        long takenAt = Instant.now().getEpochSecond();
+        long highWater = highWaterId.get();
+        try {
+            checkpointStore.write(new LeaderboardCheckpoint(takenAt, highWater, topScores.top(), rankIndex.bestScores()));
+        } catch (IOException e) {
+            log.warn("[CHECKPOINT] Could not write checkpoint: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        writeCheckpoint();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                if (!loadFromCheckpoint()) {
+                    highWaterId.accumulateAndGet(scoreRepository.findMaxId().orElse(0L), Math::max);
+                    scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD).forEach(topScores::offer);
+                    scoreRepository.findBestScorePerPlayer().forEach(best -> rankIndex.record(best.getPlayerName(), best.getScore()));
+                }
+                loaded = true;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean loadFromCheckpoint() {
+        Optional<LeaderboardCheckpoint> stored = checkpointStore.read();
+        if (stored.isEmpty()) {
+            return false;
+        }
+        LeaderboardCheckpoint checkpoint = stored.get();
+        long maxId = scoreRepository.findMaxId().orElse(0L);
+        if (maxId < checkpoint.highWaterId()) {
+            log.warn("[CHECKPOINT] Database is behind the checkpoint (max id {} < {}), loading from the table",
+                    maxId, checkpoint.highWaterId());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        checkpoint.topScores().forEach(topScores::offer);
+        checkpoint.bestByPlayer().forEach(rankIndex::record);
+        highWaterId.accumulateAndGet(checkpoint.highWaterId(), Math::max);
+        LocalDateTime since = LocalDateTime.ofEpochSecond(checkpoint.takenAt() - CHECKPOINT_REPLAY_SECONDS, 0, ZoneOffset.UTC);
+        List<Score> tail = scoreRepository.findCheckpointTail(checkpoint.highWaterId(), since);
+        tail.forEach(this::onPersisted);
+        log.info("[CHECKPOINT] Restored {} players and replayed {} rows after id {} in {} ms",
+                checkpoint.bestByPlayer().size(), tail.size(), checkpoint.highWaterId(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("scores.save.phase")
+                .description("Time spent in each phase of saving a score")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    private static long lap(Timer timer, long since) {
+        long now = System.nanoTime();
+        timer.record(now - since, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
     private ScoreDTO convertToDto(Score score) {
-        return modelMapper.map(score, ScoreDTO.class);
+        return scoreMapper.toDto(score);
     }
 
     private Score convertToEntity(ScoreDTO dto) {
-        return modelMapper.map(dto, Score.class);
+        return scoreMapper.toEntity(dto);
     }
 }
@@ -0,0 +1,22 @@
+-- One-off migration to app.scores.best-per-player=true.
+-- Keeps each player's best row per board (earliest on ties), then adds the unique index the upsert relies on.
+-- Run while no instance writes in the old mode: the lock blocks writes until the index is built.
+-- Also rerun it once if an earlier version of this script created uq_scores_player_name.
+
+BEGIN;
+
+LOCK TABLE scores IN SHARE ROW EXCLUSIVE MODE;
+
+DELETE FROM scores
+WHERE id NOT IN (
+    SELECT DISTINCT ON (board_id, player_name) id
+    FROM scores
+    ORDER BY board_id, player_name, score DESC, id
+);
+
+DROP INDEX IF EXISTS uq_scores_player_name;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_scores_board_player_name ON scores (board_id, player_name);
+
+COMMIT;
+
+ANALYZE scores;
@@ -0,0 +1,12 @@
+-- Schema as created by Hibernate's ddl-auto=update before boards existed.
+-- IF NOT EXISTS lets databases created that way run it as a no-op (see spring.flyway.baseline-version).
+CREATE TABLE IF NOT EXISTS scores (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    player_name VARCHAR(255) NOT NULL,
+    score       INTEGER      NOT NULL,
+    date_time   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_scores_score_id ON scores (score DESC, id);
+CREATE INDEX IF NOT EXISTS idx_scores_date_time ON scores (date_time);
+CREATE INDEX IF NOT EXISTS idx_scores_player_score ON scores (player_name, score DESC);
@@ -0,0 +1,4 @@
+-- Existing rows belong to the default board
+ALTER TABLE scores ADD COLUMN IF NOT EXISTS board_id VARCHAR(64) DEFAULT 'default' NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_scores_board_score_id ON scores (board_id, score DESC, id);
@@ -0,0 +1,11 @@
+-- Rows moved out of scores by the retention job
+CREATE TABLE IF NOT EXISTS scores_archive (
+    id          BIGINT       NOT NULL,
+    player_name VARCHAR(255) NOT NULL,
+    score       INTEGER      NOT NULL,
+    date_time   TIMESTAMP(6) NOT NULL,
+    board_id    VARCHAR(64)  DEFAULT 'default' NOT NULL
+);
+
+-- The retention job used to create it at runtime as a copy of scores from before board_id existed
+ALTER TABLE scores_archive ADD COLUMN IF NOT EXISTS board_id VARCHAR(64) DEFAULT 'default' NOT NULL;
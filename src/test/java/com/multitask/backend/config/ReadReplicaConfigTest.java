@@ -0,0 +1,80 @@
+package com.multitask.backend.config;
+
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.entity.Score;
+import com.multitask.backend.repository.ScoreRepository;
+import com.multitask.backend.service.ScoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two in-memory H2 databases stand in for the Postgres primary and its replica.
+ * Each holds a row the other does not, so results show which one served a query.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "app.api-key=test",
+        "app.score-secret=test",
+        "frontend.url=http://localhost"
+})
+class ReadReplicaConfigTest {
+
+    @Autowired
+    private ScoreService scoreService;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS scores (id BIGINT PRIMARY KEY, player_name VARCHAR(255) NOT NULL,"
+                + " score INT NOT NULL, date_time TIMESTAMP NOT NULL, board_id VARCHAR(64) DEFAULT 'default' NOT NULL)");
+        primary.update("DELETE FROM scores");
+        replica.update("DELETE FROM scores");
+        primary.update("INSERT INTO scores (id, player_name, score, date_time) VALUES (1001, 'OnPrimary', 100, ?)", LocalDateTime.now());
+        replica.update("INSERT INTO scores (id, player_name, score, date_time) VALUES (1001, 'OnReplica', 100, ?)", LocalDateTime.now());
+    }
+
+    @Test
+    void readOnlyPaths_shouldUseReplica() {
+        List<ScoreDTO> page = scoreService.getScores(10, null).getScores();
+
+        assertEquals(List.of("OnReplica"), page.stream().map(ScoreDTO::getPlayerName).toList());
+        assertEquals("OnReplica", scoreRepository.findAll().get(0).getPlayerName());
+    }
+
+    @Test
+    void writesAndLeaderboardLoads_shouldStayOnPrimary() {
+        scoreRepository.save(new Score(null, "Written", 50, LocalDateTime.now()));
+
+        assertEquals(2, primary.queryForObject("SELECT COUNT(*) FROM scores", Integer.class));
+        assertEquals(1, replica.queryForObject("SELECT COUNT(*) FROM scores", Integer.class));
+        assertEquals("OnPrimary", scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD).get(0).getPlayerName());
+    }
+}
@@ -0,0 +1,270 @@
+package com.multitask.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.multitask.backend.config.BinaryFormatsConfig;
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.domain.ScorePercentileDTO;
+import com.multitask.backend.domain.ScoreResultDTO;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
+import com.multitask.backend.service.ScoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ScoreControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ScoreService scoreService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        scoreService = mock(ScoreService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ScoreController(scoreService)).build();
+    }
+
+    @Test
+    void getTop10_withMatchingETag_shouldReturnNotModifiedWithoutReadingScores() throws Exception {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(200);
+        dto.setDateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(scoreService.getLeaderboardVersion()).thenReturn(3L);
+        when(scoreService.getTop10Snapshot()).thenReturn(LeaderboardSnapshot.of(3L, List.of(dto), objectMapper));
+
+        String etag = mockMvc.perform(get("/scores/top10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerName").value("Ana"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/scores/top10").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Vary", "Accept, Accept-Encoding"))
+                .andExpect(content().string(""));
+
+        verify(scoreService, times(1)).getTop10Snapshot();
+    }
+
+    @Test
+    void getTop10_afterLeaderboardChange_shouldReturnNewETag() throws Exception {
+        when(scoreService.getLeaderboardVersion()).thenReturn(3L, 4L);
+        when(scoreService.getTop10Snapshot()).thenReturn(
+                LeaderboardSnapshot.of(3L, List.of(), objectMapper), LeaderboardSnapshot.of(4L, List.of(), objectMapper));
+
+        String etag = mockMvc.perform(get("/scores/top10"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/scores/top10").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void getTop10_gzipAndIdentityBodies_shouldHaveDifferentETags() throws Exception {
+        when(scoreService.getLeaderboardVersion()).thenReturn(1L);
+        when(scoreService.getTop10Snapshot()).thenReturn(LeaderboardSnapshot.of(1L, List.of(), objectMapper));
+
+        String identity = mockMvc.perform(get("/scores/top10"))
+                .andReturn().getResponse().getHeader("ETag");
+        String gzip = mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "gzip"))
+                .andExpect(header().string("ETag", endsWith("-gzip\"")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotEquals(identity, gzip);
+        mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "gzip").header("If-None-Match", identity))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "gzip").header("If-None-Match", gzip))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getTop10_withGzipQualityZero_shouldWritePlainBody() throws Exception {
+        when(scoreService.getLeaderboardVersion()).thenReturn(1L);
+        when(scoreService.getTop10Snapshot()).thenReturn(LeaderboardSnapshot.of(1L, List.of(), objectMapper));
+
+        mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("[]"));
+        mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "br, *;q=0.5"))
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    void getTop10_withGzipAcceptEncoding_shouldWritePrecompressedBody() throws Exception {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(200);
+        dto.setDateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        LeaderboardSnapshot snapshot = LeaderboardSnapshot.of(1L, List.of(dto), objectMapper);
+        when(scoreService.getLeaderboardVersion()).thenReturn(1L);
+        when(scoreService.getTop10Snapshot()).thenReturn(snapshot);
+
+        byte[] body = mockMvc.perform(get("/scores/top10").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept, Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("[{\"playerName\":\"Ana\",\"score\":200,\"dateTime\":\"2025-01-01T12:00:00\"}]",
+                    new String(in.readAllBytes()));
+        }
+    }
+
+    @Test
+    void submitScores_shouldReturnResultPerItem() throws Exception {
+        when(scoreService.saveScores(anyList())).thenReturn(List.of(
+                new ScoreResultDTO(0, ScoreResultDTO.Status.ACCEPTED, null),
+                new ScoreResultDTO(1, ScoreResultDTO.Status.REJECTED, "Invalid signature")));
+
+        mockMvc.perform(post("/scores/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"playerName\":\"Ana\",\"score\":10,\"dateTime\":\"2025-01-01T12:00:00\",\"signature\":\"ab\"},"
+                                + "{\"playerName\":\"Bea\",\"score\":20,\"dateTime\":\"2025-01-01T12:00:00\",\"signature\":\"cd\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$[0].message").doesNotExist())
+                .andExpect(jsonPath("$[1].message").value("Invalid signature"));
+
+        verify(scoreService).saveScores(argThat(scores -> scores.size() == 2
+                && "cd".equals(scores.get(1).getSignature())));
+    }
+
+    @Test
+    void getPercentile_shouldReturnShareOfPlayersBeaten() throws Exception {
+        when(scoreService.getPercentile(180)).thenReturn(new ScorePercentileDTO(180, 8, 7, 87.5));
+
+        mockMvc.perform(get("/scores/percentile").param("score", "180"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.playersBelow").value(7))
+                .andExpect(jsonPath("$.percentile").value(87.5));
+    }
+
+    @Test
+    void submitScore_withCborBody_shouldReadEpochSecondsDateTime() throws Exception {
+        ObjectMapper cbor = BinaryFormatsConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        byte[] body = cbor.writeValueAsBytes(Map.of("playerName", "Ana", "score", 10, "dateTime", 1735732800L));
+        when(scoreService.saveScore(any(), any())).thenReturn(true);
+
+        binaryMockMvc().perform(post("/scores")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .header("X-Signature", "ab")
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        ScoreDTO expected = new ScoreDTO();
+        expected.setPlayerName("Ana");
+        expected.setScore(10);
+        expected.setDateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        verify(scoreService).saveScore(eq(expected), eq("ab"));
+    }
+
+    @Test
+    void submitScore_whenOnlyQueued_shouldReturnAccepted() throws Exception {
+        when(scoreService.saveScore(any(), eq("ab"))).thenReturn(false);
+
+        mockMvc.perform(post("/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Signature", "ab")
+                        .content("{\"playerName\":\"Ana\",\"score\":10}"))
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void getTop10_withSmileAccept_shouldWriteBinaryBody() throws Exception {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(200);
+        dto.setDateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(scoreService.getLeaderboardVersion()).thenReturn(1L);
+        when(scoreService.getTop10Snapshot()).thenReturn(LeaderboardSnapshot.of(1L, List.of(dto), objectMapper));
+        MockMvc binary = binaryMockMvc();
+
+        byte[] body = binary.perform(get("/scores/top10").accept(BinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(header().string("ETag", endsWith("-1-x-jackson-smile\"")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode top = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals("Ana", top.get(0).get("playerName").asText());
+        assertEquals(1735732800L, top.get(0).get("dateTime").asLong());
+
+        binary.perform(get("/scores/top10").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getTop10_withBinaryTypeRefusedOrLessPreferred_shouldWriteJson() throws Exception {
+        when(scoreService.getLeaderboardVersion()).thenReturn(1L);
+        when(scoreService.getTop10Snapshot()).thenReturn(LeaderboardSnapshot.of(1L, List.of(), objectMapper));
+        MockMvc binary = binaryMockMvc();
+
+        binary.perform(get("/scores/top10").header("Accept", "application/json, application/cbor;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        binary.perform(get("/scores/top10").header("Accept", BinaryFormatsConfig.APPLICATION_SMILE_VALUE + ";q=0.1, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        binary.perform(get("/scores/top10").header("Accept", "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void getBoardTop10_shouldReturnThatBoard() throws Exception {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(200);
+        dto.setDateTime(LocalDateTime.of(2025, 1, 1, 12, 0));
+        dto.setBoardId("puzzle");
+        when(scoreService.getTop10Scores("puzzle")).thenReturn(List.of(dto));
+
+        mockMvc.perform(get("/scores/puzzle/top10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerName").value("Ana"))
+                .andExpect(jsonPath("$[0].boardId").value("puzzle"));
+    }
+
+    private MockMvc binaryMockMvc() {
+        return MockMvcBuilders.standaloneSetup(new ScoreController(scoreService))
+                .setMessageConverters(
+                        new ByteArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper),
+                        new MappingJackson2CborHttpMessageConverter(
+                                BinaryFormatsConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory())),
+                        new MappingJackson2SmileHttpMessageConverter(
+                                BinaryFormatsConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory())))
+                .build();
+    }
+}
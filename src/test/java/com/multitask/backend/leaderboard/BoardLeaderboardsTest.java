@@ -0,0 +1,138 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardLeaderboardsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 12, 0);
+
+    private final List<String> loads = new ArrayList<>();
+    private final Set<String> emptyBoards = new HashSet<>();
+
+    private BoardLeaderboards boards(int maxResident) {
+        return new BoardLeaderboards(3, maxResident, boardId -> {
+            loads.add(boardId);
+            return emptyBoards.contains(boardId) ? List.of() : List.of(new Score(1L, "Seed", 100, NOW, boardId));
+        });
+    }
+
+    @Test
+    void top_shouldLoadBoardOnceAndKeepOffersPerBoard() {
+        BoardLeaderboards boards = boards(10);
+
+        assertEquals(List.of("Seed"), names(boards.top("puzzle")));
+        boards.offer(new Score(2L, "Ana", 200, NOW, "puzzle"));
+        boards.offer(new Score(3L, "Bea", 300, NOW, "racing"));
+
+        assertEquals(List.of("Ana", "Seed"), names(boards.top("puzzle")));
+        assertEquals(List.of("Seed"), names(boards.top("racing")));
+        assertEquals(List.of("puzzle", "racing"), loads);
+    }
+
+    @Test
+    void offer_toBoardThatIsNotResident_shouldBeLeftToTheLoad() {
+        BoardLeaderboards boards = boards(10);
+
+        boards.offer(new Score(2L, "Ana", 200, NOW, "puzzle"));
+
+        assertEquals(0, boards.residentCount());
+        assertEquals(List.of("Seed"), names(boards.top("puzzle")));
+    }
+
+    @Test
+    void top_beyondMaxResident_shouldEvictLeastRecentlyUsedBoard() {
+        BoardLeaderboards boards = boards(2);
+
+        boards.top("a");
+        boards.top("b");
+        boards.top("a");
+        boards.top("c");
+
+        assertEquals(2, boards.residentCount());
+        boards.top("a");
+        boards.top("b");
+        assertEquals(List.of("a", "b", "c", "b"), loads);
+    }
+
+    @Test
+    void top_ofEmptyBoard_shouldNotEvictResidentBoards() {
+        emptyBoards.addAll(List.of("ghost1", "ghost2"));
+        BoardLeaderboards boards = boards(1);
+
+        boards.top("a");
+        assertEquals(List.of(), boards.top("ghost1"));
+        assertEquals(List.of(), boards.top("ghost2"));
+        boards.top("a");
+
+        assertEquals(1, boards.residentCount());
+        assertEquals(List.of("a", "ghost1", "ghost2"), loads);
+    }
+
+    @Test
+    void top_ofEmptyBoard_shouldBeRememberedUntilAScoreIsOffered() {
+        emptyBoards.add("ghost");
+        BoardLeaderboards boards = boards(10);
+
+        boards.top("ghost");
+        boards.top("ghost");
+        assertEquals(List.of("ghost"), loads);
+        assertEquals(0, boards.residentCount());
+
+        emptyBoards.remove("ghost");
+        boards.offer(new Score(2L, "Ana", 200, NOW, "ghost"));
+
+        assertEquals(List.of("Seed"), names(boards.top("ghost")));
+        assertEquals(List.of("ghost", "ghost"), loads);
+    }
+
+    @Test
+    void offer_racingTheLoadOfANewBoard_shouldNotBeHiddenAsEmpty() throws Exception {
+        // Stands in for the table: a score is committed before it is offered
+        Map<String, List<Score>> table = new ConcurrentHashMap<>();
+        BoardLeaderboards boards = new BoardLeaderboards(3, 10_000, boardId -> table.getOrDefault(boardId, List.of()));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier start = new CyclicBarrier(2);
+
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                String boardId = "new" + i;
+                Score first = new Score((long) i, "Ana", 200, NOW, boardId);
+                Future<?> reader = executor.submit(() -> {
+                    start.await();
+                    return boards.top(boardId);
+                });
+                Future<?> writer = executor.submit(() -> {
+                    start.await();
+                    table.put(boardId, List.of(first));
+                    boards.offer(first);
+                    return null;
+                });
+                reader.get();
+                writer.get();
+
+                assertEquals(List.of("Ana"), names(boards.top(boardId)), boardId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> names(List<Score> scores) {
+        return scores.stream().map(Score::getPlayerName).toList();
+    }
+}
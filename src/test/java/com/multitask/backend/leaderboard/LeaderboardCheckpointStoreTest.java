@@ -0,0 +1,65 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.entity.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardCheckpointStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_thenRead_shouldRoundTrip() throws IOException {
+        LeaderboardCheckpointStore store = new LeaderboardCheckpointStore(dir.resolve("leaderboard.bin").toString());
+        List<Score> top = List.of(
+                new Score(7L, "Zoë", 900, LocalDateTime.of(2025, 4, 1, 10, 0)),
+                new Score(3L, "Ana", 800, LocalDateTime.of(2025, 3, 1, 9, 30)));
+        Map<String, Integer> bests = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            bests.put("Player" + i, i);
+        }
+        bests.put("Zoë", 900);
+
+        store.write(new LeaderboardCheckpoint(1_700_000_000L, 42L, top, bests));
+        LeaderboardCheckpoint read = store.read().orElseThrow();
+
+        assertEquals(1_700_000_000L, read.takenAt());
+        assertEquals(42L, read.highWaterId());
+        assertEquals(top, read.topScores());
+        assertEquals(bests, read.bestByPlayer());
+    }
+
+    @Test
+    void read_withCorruptFile_shouldReturnEmpty() throws IOException {
+        Path file = dir.resolve("leaderboard.bin");
+        LeaderboardCheckpointStore store = new LeaderboardCheckpointStore(file.toString());
+        store.write(new LeaderboardCheckpoint(1L, 1L, List.of(), Map.of("Ana", 10)));
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x1;
+        Files.write(file, bytes);
+
+        assertTrue(store.read().isEmpty());
+    }
+
+    @Test
+    void disabledStore_shouldNotWriteOrRead() throws IOException {
+        LeaderboardCheckpointStore store = new LeaderboardCheckpointStore("");
+
+        store.write(new LeaderboardCheckpoint(1L, 1L, List.of(), Map.of()));
+
+        assertFalse(store.isEnabled());
+        assertTrue(store.read().isEmpty());
+    }
+}
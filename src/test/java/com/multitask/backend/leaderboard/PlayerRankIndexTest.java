@@ -0,0 +1,103 @@
+package com.multitask.backend.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerRankIndexTest {
+
+    @Test
+    void rank_shouldMatchCountOfPlayersWithHigherBestScore() {
+        PlayerRankIndex index = new PlayerRankIndex(5000, 1);
+        Map<String, Integer> best = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String player = "P" + random.nextInt(2000);
+            int score = random.nextInt(5001);
+            index.record(player, score);
+            best.merge(player, score, Math::max);
+        }
+
+        assertEquals(best.size(), index.playerCount());
+        best.forEach((player, score) -> {
+            long higher = best.values().stream().filter(other -> other > score).count();
+            assertEquals(higher + 1, index.rank(player).getAsInt());
+            assertEquals(score, index.bestScore(player).getAsInt());
+        });
+    }
+
+    @Test
+    void record_shouldKeepOnlyBestScore() {
+        PlayerRankIndex index = new PlayerRankIndex(1000, 1);
+
+        assertTrue(index.record("Ana", 100));
+        assertFalse(index.record("Ana", 50));
+        assertTrue(index.record("Ana", 300));
+
+        assertEquals(300, index.bestScore("Ana").getAsInt());
+        assertEquals(0, index.countAbove(300));
+        assertEquals(1, index.countAbove(299));
+        assertEquals(1, index.countAbove(100));
+    }
+
+    @Test
+    void record_withOutOfRangeScores_shouldClampIntoEdgeBuckets() {
+        PlayerRankIndex index = new PlayerRankIndex(100, 1);
+
+        index.record("Low", -5);
+        index.record("High", 5000);
+
+        assertEquals(1, index.rank("High").getAsInt());
+        assertEquals(2, index.rank("Low").getAsInt());
+        assertTrue(index.rank("Nobody").isEmpty());
+    }
+
+    @Test
+    void countBelowAndHighestBest_shouldTrackBestScores() {
+        PlayerRankIndex index = new PlayerRankIndex(1000, 1);
+        assertTrue(index.highestBest().isEmpty());
+
+        index.record("Ana", 300);
+        index.record("Luis", 700);
+        index.record("Eva", 0);
+        index.record("Ana", 900);
+
+        assertEquals(900, index.highestBest().getAsInt());
+        assertEquals(0, index.countBelow(0));
+        assertEquals(1, index.countBelow(700));
+        assertEquals(2, index.countBelow(900));
+        assertEquals(3, index.countBelow(901));
+    }
+
+    @Test
+    void highestBest_withWideBuckets_shouldReturnBucketStart() {
+        PlayerRankIndex index = new PlayerRankIndex(1000, 100);
+
+        index.record("Ana", 250);
+        index.record("Luis", 1000);
+
+        assertEquals(1000, index.highestBest().getAsInt());
+        index.record("Luis", 5000);
+        assertEquals(1000, index.highestBest().getAsInt());
+    }
+
+    @Test
+    void playersWithPrefix_shouldMatchIgnoringCaseInOrderUpToLimit() {
+        PlayerRankIndex index = new PlayerRankIndex(1000, 1);
+        for (String name : List.of("andrea", "Ana", "ANTON", "ana", "Bea", "An", "Alba")) {
+            index.record(name, 10);
+        }
+        index.record("Ana", 20);
+
+        assertEquals(List.of("An", "Ana", "ana", "andrea", "ANTON"), index.playersWithPrefix("aN", 10));
+        assertEquals(List.of("An", "Ana"), index.playersWithPrefix("an", 2));
+        assertEquals(List.of("Bea"), index.playersWithPrefix("b", 10));
+        assertTrue(index.playersWithPrefix("z", 10).isEmpty());
+    }
+}
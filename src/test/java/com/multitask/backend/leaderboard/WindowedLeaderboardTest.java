@@ -0,0 +1,105 @@
+package com.multitask.backend.leaderboard;
+
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.entity.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowedLeaderboardTest {
+
+    // Wednesday
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 4, 16, 12, 0);
+
+    @Test
+    void offer_shouldOnlyKeepScoresDatedInsideCurrentWindow() {
+        MutableClock clock = new MutableClock(NOON);
+        WindowedLeaderboard board = new WindowedLeaderboard(LeaderboardWindow.DAY, 10, clock, (from, to) -> List.of());
+
+        assertTrue(board.offer(new Score(1L, "A", 100, NOON.minusHours(1))));
+        assertFalse(board.offer(new Score(2L, "B", 500, NOON.minusDays(1))));
+        assertFalse(board.offer(new Score(3L, "C", 500, NOON.plusDays(1))));
+
+        assertEquals(List.of(1L), ids(board.top()));
+    }
+
+    @Test
+    void rollover_shouldStartFreshBoardSeededFromNewWindow() {
+        MutableClock clock = new MutableClock(NOON);
+        List<LocalDateTime[]> seeds = new ArrayList<>();
+        Score datedAhead = new Score(3L, "C", 50, NOON.plusDays(1).withHour(0).withMinute(30));
+        WindowedLeaderboard board = new WindowedLeaderboard(LeaderboardWindow.DAY, 10, clock, (from, to) -> {
+            seeds.add(new LocalDateTime[]{from, to});
+            return from.equals(datedAhead.getDateTime().toLocalDate().atStartOfDay()) ? List.of(datedAhead) : List.of();
+        });
+
+        board.offer(new Score(1L, "A", 100, NOON));
+        assertFalse(board.offer(datedAhead));
+        clock.now = NOON.plusHours(13);
+
+        assertEquals(List.of(3L), ids(board.top()));
+        assertEquals(2, seeds.size());
+        assertEquals(NOON.plusDays(1).toLocalDate().atStartOfDay(), seeds.get(1)[0]);
+        assertEquals(NOON.plusDays(2).toLocalDate().atStartOfDay(), seeds.get(1)[1]);
+    }
+
+    @Test
+    void weekWindow_shouldStartOnMonday() {
+        WindowedLeaderboard board = new WindowedLeaderboard(LeaderboardWindow.WEEK, 10, new MutableClock(NOON), (from, to) -> List.of());
+
+        assertEquals(LocalDateTime.of(2025, 4, 14, 0, 0), board.windowStart());
+        assertTrue(board.offer(new Score(1L, "A", 100, LocalDateTime.of(2025, 4, 14, 0, 0))));
+        assertFalse(board.offer(new Score(2L, "B", 100, LocalDateTime.of(2025, 4, 13, 23, 59))));
+    }
+
+    @Test
+    void failedSeed_shouldBeRetriedOnNextCall() {
+        MutableClock clock = new MutableClock(NOON);
+        int[] calls = {0};
+        WindowedLeaderboard board = new WindowedLeaderboard(LeaderboardWindow.DAY, 10, clock, (from, to) -> {
+            if (calls[0]++ == 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return List.of(new Score(1L, "A", 100, NOON));
+        });
+
+        assertFalse(board.offer(new Score(1L, "A", 100, NOON)));
+
+        assertEquals(List.of(1L), ids(board.top()));
+    }
+
+    private static List<Long> ids(List<Score> scores) {
+        return scores.stream().map(Score::getId).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private LocalDateTime now;
+
+        MutableClock(LocalDateTime now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.toInstant(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.multitask.backend.mapper;
+
+import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.entity.Score;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreMapperTest {
+
+    private final ScoreMapper scoreMapper = new ScoreMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toDto_shouldMatchModelMapper() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        Score score = new Score(7L, "Mapper", 150, now);
+
+        ScoreDTO dto = scoreMapper.toDto(score);
+
+        assertEquals(withoutBoardId(modelMapper.map(score, ScoreDTO.class)), dto);
+        assertEquals(now.toEpochSecond(ZoneOffset.UTC), dto.getTimestamp());
+    }
+
+    @Test
+    void toEntity_shouldMatchModelMapperAndLeaveIdUnset() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Mapper");
+        dto.setScore(150);
+        dto.setDateTime(now);
+
+        Score score = scoreMapper.toEntity(dto);
+
+        Score expected = modelMapper.map(dto, Score.class);
+        expected.setBoardId(Score.DEFAULT_BOARD);
+        assertEquals(expected, score);
+        assertNull(score.getId());
+    }
+
+    @Test
+    void toDto_withNullFields_shouldMatchModelMapper() {
+        Score score = new Score(null, null, 0, null);
+
+        assertEquals(withoutBoardId(modelMapper.map(score, ScoreDTO.class)), scoreMapper.toDto(score));
+    }
+
+    @Test
+    void boardId_shouldBeNullInDtosOnlyForDefaultBoard() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Mapper");
+        dto.setDateTime(now);
+        dto.setBoardId("puzzle");
+
+        assertEquals("puzzle", scoreMapper.toEntity(dto).getBoardId());
+        assertEquals("puzzle", scoreMapper.toDto(new Score(1L, "Mapper", 1, now, "puzzle")).getBoardId());
+        assertNull(scoreMapper.toDto(new Score(1L, "Mapper", 1, now, Score.DEFAULT_BOARD)).getBoardId());
+    }
+
+    private static ScoreDTO withoutBoardId(ScoreDTO dto) {
+        dto.setBoardId(null);
+        return dto;
+    }
+}
@@ -0,0 +1,55 @@
+package com.multitask.backend.repository;
+
+import com.multitask.backend.entity.Score;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Applies the Flyway migrations to H2 in PostgreSQL mode and lets Hibernate validate the
+ * entity against the result, so a mapping change without a migration fails here instead
+ * of at the first query in production.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTest {
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_shouldMatchEntityMapping() {
+        scoreRepository.saveAndFlush(new Score(null, "Ana", 100, LocalDateTime.now(), "puzzle"));
+
+        assertEquals("puzzle", scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc("puzzle").get(0).getBoardId());
+    }
+
+    @Test
+    void rowsInsertedWithoutBoard_shouldLandOnDefaultBoard() {
+        jdbcTemplate.update("INSERT INTO scores (player_name, score, date_time) VALUES ('Legacy', 5, ?)", LocalDateTime.now());
+
+        assertEquals(Score.DEFAULT_BOARD, jdbcTemplate.queryForObject(
+                "SELECT board_id FROM scores WHERE player_name = 'Legacy'", String.class));
+    }
+
+    @Test
+    void archive_shouldHaveEveryColumnThePurgeCopies() {
+        jdbcTemplate.update("INSERT INTO scores_archive (id, player_name, score, date_time, board_id) VALUES (1, 'Old', 5, ?, 'puzzle')",
+                LocalDateTime.now());
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scores_archive", Integer.class));
+    }
+}
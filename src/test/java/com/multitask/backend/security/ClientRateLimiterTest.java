@@ -0,0 +1,62 @@
+package com.multitask.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenRefillAtRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(true, 10, 5, 1, 2, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.READ));
+        }
+        long wait = limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.READ);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.READ));
+        assertTrue(limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.READ) > 0);
+    }
+
+    @Test
+    void tryAcquire_shouldTrackReadsWritesAndClientsSeparately() {
+        ClientRateLimiter limiter = new ClientRateLimiter(true, 10, 1, 1, 1, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.WRITE));
+        assertTrue(limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.WRITE) > 0);
+        assertEquals(0, limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.READ));
+        assertEquals(0, limiter.tryAcquire("5.6.7.8", ClientRateLimiter.Kind.WRITE));
+    }
+
+    @Test
+    void tryAcquire_shouldEvictIdleClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(true, 10, 1, 1, 1, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("10.0.0." + i, ClientRateLimiter.Kind.READ);
+        }
+        assertEquals(100, limiter.trackedClients());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        limiter.tryAcquire("10.0.1.1", ClientRateLimiter.Kind.READ);
+
+        assertEquals(1, limiter.trackedClients());
+    }
+
+    @Test
+    void tryAcquire_whenDisabled_shouldAlwaysAllow() {
+        ClientRateLimiter limiter = new ClientRateLimiter(false, 1, 1, 1, 1, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.tryAcquire("1.2.3.4", ClientRateLimiter.Kind.WRITE));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.multitask.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tryRecord_shouldRejectDuplicateUntilExpired() {
+        ReplayGuard guard = new ReplayGuard(1000, meterRegistry);
+
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, 4600L, 1000L));
+        assertFalse(guard.tryRecord("Alice", 100, 1000L, 4600L, 2000L));
+        assertTrue(guard.tryRecord("Alice", 101, 1000L, 4600L, 2000L));
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, 4600L, 4601L));
+        assertEquals(1.0, meterRegistry.get("scores.replay.rejected").counter().count());
+    }
+
+    @Test
+    void forget_shouldAllowRetry() {
+        ReplayGuard guard = new ReplayGuard(1000, meterRegistry);
+
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, 4600L, 1000L));
+        guard.forget("Alice", 100, 1000L);
+
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, 4600L, 1000L));
+    }
+
+    @Test
+    void tryRecord_whenFull_shouldRefuseInsteadOfForgettingUnexpiredEntries() {
+        ReplayGuard guard = new ReplayGuard(640, meterRegistry);
+        List<Integer> recorded = new ArrayList<>();
+        int refused = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            try {
+                if (guard.tryRecord("Player" + i, i, 1000L, 4600L, 1000L)) {
+                    recorded.add(i);
+                }
+            } catch (RejectedExecutionException e) {
+                refused++;
+            }
+        }
+
+        assertTrue(guard.size() <= 640);
+        assertEquals(guard.size(), meterRegistry.get("scores.replay.entries").gauge().value());
+        assertEquals(refused, meterRegistry.get("scores.replay.full").counter().count());
+        for (int i : recorded) {
+            assertFalse(guard.tryRecord("Player" + i, i, 1000L, 4600L, 2000L));
+        }
+    }
+
+    @Test
+    void tryRecord_shouldExpireEntriesRecordedAfterOneThatExpiresLater() {
+        ReplayGuard guard = new ReplayGuard(100_000, meterRegistry);
+
+        assertTrue(guard.tryRecord("Future", 1, 8200L, 11_800L, 1000L));
+        for (int i = 0; i < 2000; i++) {
+            guard.tryRecord("Player" + i, i, 1000L, 4600L, 1000L);
+        }
+        for (int i = 0; i < 2000; i++) {
+            guard.tryRecord("Late" + i, i, 5000L, 8600L, 5000L);
+        }
+
+        assertEquals(1 + 2000, guard.size());
+        assertFalse(guard.tryRecord("Future", 1, 8200L, 11_800L, 5000L));
+    }
+
+    @Test
+    void tryRecord_concurrentDuplicates_shouldAcceptExactlyOnce() throws InterruptedException {
+        ReplayGuard guard = new ReplayGuard(100_000, meterRegistry);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    if (guard.tryRecord("Player" + i, i, 1000L, 4600L, 1000L)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(5000, accepted.get());
+    }
+
+    @Test
+    void tryRecord_onDifferentBoards_shouldBeDistinctSubmissions() {
+        ReplayGuard guard = new ReplayGuard(1000, meterRegistry);
+
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, 4600L, 1000L));
+        assertTrue(guard.tryRecord("Alice", 100, 1000L, "puzzle", 4600L, 1000L));
+        assertFalse(guard.tryRecord("Alice", 100, 1000L, "puzzle", 4600L, 1000L));
+        assertFalse(guard.tryRecord("Alice", 100, 1000L, null, 4600L, 1000L));
+    }
+}
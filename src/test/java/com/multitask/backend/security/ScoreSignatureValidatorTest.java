@@ -1,7 +1,20 @@
+import com.multitask.backend.domain.SignedScoreDTO;
 import com.multitask.backend.security.ScoreSignatureValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +49,85 @@ class ScoreSignatureValidatorTest {
         boolean result = validator.validarFirma(playerName, score, timestamp, fakeFirma);
         assertFalse(result);
     }
+
+    @Test
+    void generarFirma_legacyMode_shouldMatchSha256OfDataPlusSecret() throws Exception {
+        String[] names = {"Alice", "Jos\u00e9 \uD83D\uDE00", ""};
+        long[] timestamps = {1710000000L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+        int[] scores = {0, 1234, -42, Integer.MIN_VALUE};
+
+        for (String name : names) {
+            for (long timestamp : timestamps) {
+                for (int score : scores) {
+                    String data = name + "|" + score + "|" + timestamp + "my_secret";
+                    byte[] hash = MessageDigest.getInstance("SHA-256").digest(data.getBytes(StandardCharsets.UTF_8));
+                    assertEquals(HexFormat.of().formatHex(hash), validator.generarFirma(name, score, timestamp));
+                }
+            }
+        }
+    }
+
+    @Test
+    void validarFirma_hmacMode_shouldMatchHmacSha256() throws Exception {
+        ScoreSignatureValidator hmacValidator = new ScoreSignatureValidator("my_secret", ScoreSignatureValidator.Mode.HMAC);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec("my_secret".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String firma = HexFormat.of().formatHex(mac.doFinal("Alice|1234|1710000000".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(firma, hmacValidator.generarFirma("Alice", 1234, 1710000000L));
+        assertTrue(hmacValidator.validarFirma("Alice", 1234, 1710000000L, firma));
+        assertFalse(hmacValidator.validarFirma("Alice", 1235, 1710000000L, firma));
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, firma));
+    }
+
+    @Test
+    void validarFirma_shouldAcceptUppercaseHexAndRejectMalformedSignatures() {
+        String firma = validator.generarFirma("Alice", 1234, 1710000000L);
+
+        assertTrue(validator.validarFirma("Alice", 1234, 1710000000L, firma.toUpperCase()));
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, null));
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, firma.substring(2)));
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, "zz" + firma.substring(2)));
+    }
+
+    @Test
+    void validarFirmas_shouldValidateEachItem() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 4, 1, 10, 0);
+        long timestamp = dateTime.toEpochSecond(ZoneOffset.UTC);
+        SignedScoreDTO valid = signed("Alice", 100, dateTime, validator.generarFirma("Alice", 100, timestamp));
+        SignedScoreDTO tampered = signed("Alice", 101, dateTime, validator.generarFirma("Alice", 100, timestamp));
+        SignedScoreDTO unsigned = signed("Bob", 5, dateTime, null);
+        SignedScoreDTO undated = signed("Carl", 5, null, valid.getSignature());
+
+        boolean[] result = validator.validarFirmas(Arrays.asList(valid, tampered, unsigned, undated, null));
+
+        assertArrayEquals(new boolean[]{true, false, false, false, false}, result);
+    }
+
+    @Test
+    void generarFirma_forBoard_shouldAppendBoardIdOnlyOutsideDefaultBoard() throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest("Alice|1234|1710000000|puzzle".concat("my_secret").getBytes(StandardCharsets.UTF_8));
+        String boardFirma = validator.generarFirma("Alice", 1234, 1710000000L, "puzzle");
+
+        assertEquals(HexFormat.of().formatHex(hash), boardFirma);
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, boardFirma));
+        assertFalse(validator.validarFirma("Alice", 1234, 1710000000L, "racing", boardFirma));
+
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(1710000000L, 0, ZoneOffset.UTC);
+        SignedScoreDTO onBoard = signed("Alice", 1234, dateTime, boardFirma);
+        onBoard.setBoardId("puzzle");
+        SignedScoreDTO onDefault = signed("Alice", 1234, dateTime, validator.generarFirma("Alice", 1234, 1710000000L));
+        onDefault.setBoardId("default");
+        assertArrayEquals(new boolean[]{true, true}, validator.validarFirmas(List.of(onBoard, onDefault)));
+    }
+
+    private static SignedScoreDTO signed(String playerName, int score, LocalDateTime dateTime, String signature) {
+        SignedScoreDTO dto = new SignedScoreDTO();
+        dto.setPlayerName(playerName);
+        dto.setScore(score);
+        dto.setDateTime(dateTime);
+        dto.setSignature(signature);
+        return dto;
+    }
 }
@@ -0,0 +1,145 @@
+package com.multitask.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.leaderboard.LeaderboardSnapshot;
+import com.multitask.backend.service.impl.LeaderboardBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LeaderboardBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong version = new AtomicLong(1);
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private ScoreService scoreService;
+    private LeaderboardBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        scoreService = mock(ScoreService.class);
+        when(scoreService.getTop10Snapshot())
+                .thenAnswer(invocation -> LeaderboardSnapshot.of(version.get(), Collections.emptyList(), objectMapper));
+        when(scoreService.getLeaderboardVersion()).thenAnswer(invocation -> version.get());
+        broadcaster = new LeaderboardBroadcaster(scoreService, tasks::add, 2, () -> {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        });
+    }
+
+    @Test
+    void subscribe_shouldRejectSubscribersBeyondLimit() {
+        assertTrue(broadcaster.subscribe().isPresent());
+        assertTrue(broadcaster.subscribe().isPresent());
+
+        assertTrue(broadcaster.subscribe().isEmpty());
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void broadcast_shouldSkipWorkWithoutSubscribers() {
+        broadcaster.broadcast();
+
+        verifyNoInteractions(scoreService);
+    }
+
+    @Test
+    void broadcast_shouldReadSnapshotOncePerVersion() {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+        clearInvocations(scoreService);
+
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        verify(scoreService, times(1)).getTop10Snapshot();
+    }
+
+    @Test
+    void broadcast_shouldDeliverCurrentBoardAndEachNewVersion() {
+        broadcaster.subscribe();
+        runTasks();
+
+        version.set(2);
+        broadcaster.broadcast();
+        runTasks();
+        broadcaster.broadcast();
+        runTasks();
+
+        assertEquals(List.of(1L, 2L), emitters.get(0).sentVersions);
+    }
+
+    @Test
+    void broadcast_shouldCoalesceVersionsIntoOneQueuedSend() {
+        broadcaster.subscribe();
+        for (long v = 2; v <= 5; v++) {
+            version.set(v);
+            broadcaster.broadcast();
+        }
+
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of(5L), emitters.get(0).sentVersions);
+    }
+
+    @Test
+    void slowSubscriber_shouldSkipToLatestVersion() {
+        broadcaster.subscribe();
+        RecordingEmitter emitter = emitters.get(0);
+        // Versions 2 and 3 are published while version 1 is still being written
+        emitter.duringSend = () -> {
+            emitter.duringSend = null;
+            version.set(2);
+            broadcaster.broadcast();
+            version.set(3);
+            broadcaster.broadcast();
+        };
+
+        runTasks();
+
+        assertEquals(List.of(1L, 3L), emitter.sentVersions);
+        assertTrue(tasks.isEmpty());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Long> sentVersions = new ArrayList<>();
+        private Runnable duringSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            Runnable hook = duringSend;
+            if (hook != null) {
+                hook.run();
+            }
+            String event = builder.build().iterator().next().getData().toString();
+            Matcher id = EVENT_ID.matcher(event);
+            if (id.find()) {
+                sentVersions.add(Long.parseLong(id.group(1)));
+            }
+        }
+    }
+}
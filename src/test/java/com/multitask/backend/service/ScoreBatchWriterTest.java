@@ -0,0 +1,164 @@
+package com.multitask.backend.service;
+
+import com.multitask.backend.entity.Score;
+import com.multitask.backend.repository.ScoreRepository;
+import com.multitask.backend.service.impl.ScoreBatchWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScoreBatchWriterTest {
+
+    private ScoreRepository scoreRepository;
+    private ScoreBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        scoreRepository = mock(ScoreRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void submit_shouldPersistScoresInBatchesAndNotifyListener() throws InterruptedException {
+        writer = new ScoreBatchWriter(scoreRepository, true, 50, 50, 1000, false, 3);
+        List<Score> notified = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(120);
+        writer.setListener(batch -> batch.forEach(score -> {
+            notified.add(score);
+            done.countDown();
+        }));
+        writer.start();
+
+        for (int i = 0; i < 120; i++) {
+            writer.submit(score(i));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(120, notified.size());
+        verify(scoreRepository, atMost(120 / 50 + 2)).insertAll(argThat(batch -> batch.size() <= 50));
+    }
+
+    @Test
+    void submit_whenQueueIsFull_shouldReject() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(scoreRepository).insertAll(any());
+
+        writer = new ScoreBatchWriter(scoreRepository, true, 1, 0, 2, false, 3);
+        writer.start();
+
+        assertThrows(RejectedExecutionException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                writer.submit(score(i));
+            }
+        });
+        release.countDown();
+    }
+
+    @Test
+    void stop_shouldDrainQueuedScores() {
+        writer = new ScoreBatchWriter(scoreRepository, true, 10, 1000, 1000, false, 3);
+        List<Score> persisted = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> persisted.addAll(invocation.getArgument(0)))
+                .when(scoreRepository).insertAll(any());
+        writer.start();
+
+        for (int i = 0; i < 35; i++) {
+            writer.submit(score(i));
+        }
+        writer.stop();
+
+        assertEquals(35, persisted.size());
+        assertThrows(RejectedExecutionException.class, () -> writer.submit(score(99)));
+    }
+
+    @Test
+    void flush_whenInsertFailsOnce_shouldRetryAndNotifyListener() throws InterruptedException {
+        doThrow(new IllegalStateException("connection reset")).doNothing().when(scoreRepository).insertAll(any());
+        writer = new ScoreBatchWriter(scoreRepository, true, 10, 0, 100, false, 3);
+        CountDownLatch persisted = new CountDownLatch(1);
+        writer.setListener(batch -> persisted.countDown());
+        writer.start();
+
+        writer.submit(score(1));
+
+        assertTrue(persisted.await(5, TimeUnit.SECONDS));
+        verify(scoreRepository, times(2)).insertAll(any());
+    }
+
+    @Test
+    void flush_whenEveryAttemptFails_shouldNotifyFailureListener() throws InterruptedException {
+        doThrow(new IllegalStateException("database down")).when(scoreRepository).insertAll(any());
+        writer = new ScoreBatchWriter(scoreRepository, true, 10, 0, 100, false, 2);
+        List<Score> failed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch reported = new CountDownLatch(1);
+        writer.setListener(batch -> fail("Nothing was persisted"));
+        writer.setFailureListener(batch -> {
+            failed.addAll(batch);
+            reported.countDown();
+        });
+        writer.start();
+
+        CountDownLatch callback = new CountDownLatch(1);
+        writer.submit(score(7), callback::countDown);
+
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        assertTrue(callback.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(7), failed.stream().map(Score::getScore).toList());
+        verify(scoreRepository, times(2)).insertAll(any());
+    }
+
+    @Test
+    void submit_whenDisabled_shouldReject() {
+        writer = new ScoreBatchWriter(scoreRepository, false, 10, 10, 10, false, 3);
+        writer.start();
+
+        assertFalse(writer.isRunning());
+        assertThrows(RejectedExecutionException.class, () -> writer.submit(score(1)));
+    }
+
+    @Test
+    void bestPerPlayer_shouldUpsertAndOnlyNotifyStoredScores() throws InterruptedException {
+        writer = new ScoreBatchWriter(scoreRepository, true, 10, 1000, 1000, true, 3);
+        doAnswer(invocation -> {
+            List<Score> batch = invocation.getArgument(0);
+            batch.stream().filter(score -> score.getScore() % 2 == 0).forEach(score -> score.setId((long) score.getScore()));
+            return null;
+        }).when(scoreRepository).upsertBest(any());
+        List<Score> notified = Collections.synchronizedList(new ArrayList<>());
+        writer.setListener(notified::addAll);
+        writer.start();
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(score(i));
+        }
+        writer.stop();
+
+        verify(scoreRepository, never()).insertAll(any());
+        assertEquals(5, notified.size());
+        assertTrue(notified.stream().allMatch(score -> score.getScore() % 2 == 0));
+    }
+
+    private static Score score(int value) {
+        return new Score(null, "Player" + value, value, LocalDateTime.now());
+    }
+}
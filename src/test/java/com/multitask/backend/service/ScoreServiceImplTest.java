@@ -1,21 +1,46 @@
 package com.multitask.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multitask.backend.domain.LeaderboardWindow;
+import com.multitask.backend.domain.PlayerRankDTO;
 import com.multitask.backend.domain.ScoreDTO;
+import com.multitask.backend.domain.ScoreDistributionDTO;
+import com.multitask.backend.domain.ScorePageDTO;
+import com.multitask.backend.domain.ScorePercentileDTO;
+import com.multitask.backend.domain.ScoreResultDTO;
+import com.multitask.backend.domain.SignedScoreDTO;
 import com.multitask.backend.entity.Score;
+import com.multitask.backend.leaderboard.LeaderboardCheckpoint;
+import com.multitask.backend.leaderboard.LeaderboardCheckpointStore;
+import com.multitask.backend.leaderboard.PlayerRankIndex;
+import com.multitask.backend.mapper.ScoreMapper;
 import com.multitask.backend.repository.ScoreRepository;
+import com.multitask.backend.security.ReplayGuard;
 import com.multitask.backend.security.ScoreSignatureValidator;
+import com.multitask.backend.service.impl.ScoreBatchWriter;
 import com.multitask.backend.service.impl.ScoreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,13 +49,20 @@ class ScoreServiceImplTest {
 
     private ScoreRepository scoreRepository;
     private ScoreSignatureValidator signatureValidator;
+    private ScoreBatchWriter batchWriter;
+    private SimpleMeterRegistry meterRegistry;
     private ScoreService scoreService;
 
     @BeforeEach
     void setUp() {
         scoreRepository = mock(ScoreRepository.class);
         signatureValidator = mock(ScoreSignatureValidator.class);
-        scoreService = new ScoreServiceImpl(scoreRepository, new ModelMapper(), signatureValidator);
+        batchWriter = mock(ScoreBatchWriter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scoreService = new ScoreServiceImpl(scoreRepository, new ScoreMapper(), signatureValidator, batchWriter,
+                new PlayerRankIndex(1000, 1), new ReplayGuard(10_000, new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules(), false, meterRegistry,
+                new LeaderboardCheckpointStore(""), 100);
     }
 
     @Test
@@ -44,7 +76,7 @@ class ScoreServiceImplTest {
 
         long timestamp = dto.getTimestamp();
 
-        when(signatureValidator.validarFirma("Juan", 100, timestamp, "valid-signature"))
+        when(signatureValidator.validarFirma("Juan", 100, timestamp, null, "valid-signature"))
                 .thenReturn(true);
         when(scoreRepository.save(any(Score.class))).thenReturn(new Score(1L, "Juan", 100, now));
 
@@ -66,7 +98,7 @@ class ScoreServiceImplTest {
         dto.setScore(100);
         dto.setDateTime(now);
 
-        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), any()))
+        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), isNull(), any()))
                 .thenReturn(false);
 
         assertThrows(SecurityException.class, () ->
@@ -85,7 +117,7 @@ class ScoreServiceImplTest {
         dto.setScore(100);
         dto.setDateTime(oldTime);
 
-        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), any()))
+        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), isNull(), any()))
                 .thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, () ->
@@ -104,7 +136,7 @@ class ScoreServiceImplTest {
         dto.setScore(100);
         dto.setDateTime(futureTime);
 
-        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), any()))
+        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), isNull(), any()))
                 .thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, () ->
@@ -121,7 +153,7 @@ class ScoreServiceImplTest {
         Score score1 = new Score(1L, "Ana", 200, now);
         Score score2 = new Score(2L, "Luis", 180, now);
 
-        when(scoreRepository.findTop10ByOrderByScoreDesc())
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD))
                 .thenReturn(List.of(score1, score2));
 
         List<ScoreDTO> result = scoreService.getTop10Scores();
@@ -150,7 +182,7 @@ class ScoreServiceImplTest {
         dto.setScore(123);
         dto.setDateTime(oneHourAgo);
 
-        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), any()))
+        when(signatureValidator.validarFirma(any(), anyInt(), eq(dto.getTimestamp()), isNull(), any()))
                 .thenReturn(true);
 
         assertDoesNotThrow(() -> scoreService.saveScore(dto, "valid-signature"));
@@ -187,7 +219,7 @@ class ScoreServiceImplTest {
 
         LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
 
-        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), any()))
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any()))
                 .thenReturn(true);
         when(scoreRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -215,4 +247,500 @@ class ScoreServiceImplTest {
         verify(scoreRepository, times(threadCount)).save(any(Score.class));
     }
 
+    @Test
+    void getTop10Scores_shouldNotQueryRepositoryAfterInitialLoad() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD))
+                .thenReturn(List.of(new Score(1L, "Ana", 200, now)));
+
+        scoreService.getTop10Scores();
+        scoreService.getTop10Scores();
+        List<ScoreDTO> result = scoreService.getTop10Scores();
+
+        assertEquals(1, result.size());
+        verify(scoreRepository, times(1)).findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD);
+    }
+
+    @Test
+    void saveScore_shouldUpdateTop10WithoutQueryingRepository() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        AtomicLong ids = new AtomicLong(10);
+
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD))
+                .thenReturn(List.of(new Score(1L, "Ana", 200, now), new Score(2L, "Luis", 180, now)));
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+        when(scoreRepository.save(any())).thenAnswer(invocation -> {
+            Score score = invocation.getArgument(0);
+            score.setId(ids.incrementAndGet());
+            return score;
+        });
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Eva");
+        dto.setScore(190);
+        dto.setDateTime(now);
+        scoreService.saveScore(dto, "valid-signature");
+
+        List<ScoreDTO> result = scoreService.getTop10Scores();
+
+        assertEquals(List.of("Ana", "Eva", "Luis"), result.stream().map(ScoreDTO::getPlayerName).toList());
+        verify(scoreRepository, times(1)).findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD);
+    }
+
+    @Test
+    void getTop10Scores_underConcurrentWrites_shouldMatchRepositoryOrdering() throws InterruptedException {
+        int threadCount = 8;
+        int scoresPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        AtomicLong ids = new AtomicLong();
+        List<Score> persisted = Collections.synchronizedList(new ArrayList<>());
+
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD)).thenReturn(List.of());
+        when(scoreRepository.save(any())).thenAnswer(invocation -> {
+            Score score = invocation.getArgument(0);
+            score.setId(ids.incrementAndGet());
+            persisted.add(new Score(score.getId(), score.getPlayerName(), score.getScore(), score.getDateTime()));
+            return score;
+        });
+
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < scoresPerThread; i++) {
+                    ScoreDTO dto = new ScoreDTO();
+                    dto.setPlayerName("Player" + thread + "-" + i);
+                    dto.setScore((i * 7919 + thread * 104729) % 1000);
+                    dto.setDateTime(now);
+                    scoreService.saveScore(dto, "valid-signature");
+                    scoreService.getTop10Scores();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<String> expected = persisted.stream()
+                .sorted(Comparator.comparingInt(Score::getScore).reversed().thenComparing(Score::getId))
+                .limit(10)
+                .map(Score::getPlayerName)
+                .toList();
+        List<String> actual = scoreService.getTop10Scores().stream()
+                .map(ScoreDTO::getPlayerName)
+                .toList();
+
+        assertEquals(threadCount * scoresPerThread, persisted.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void saveScore_withWriteBehindEnabled_shouldQueueInsteadOfSaving() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Queued");
+        dto.setScore(300);
+        dto.setDateTime(now);
+
+        when(batchWriter.isEnabled()).thenReturn(true);
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+
+        assertFalse(scoreService.saveScore(dto, "valid-signature"));
+
+        verify(batchWriter).submit(argThat(score -> score.getPlayerName().equals("Queued") && score.getScore() == 300), any());
+        verify(scoreRepository, never()).save(any());
+    }
+
+    @Test
+    void saveScore_whenQueuedBatchIsDropped_shouldAllowRetry() {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Queued");
+        dto.setScore(300);
+        dto.setDateTime(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+
+        when(batchWriter.isEnabled()).thenReturn(true);
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+        ArgumentCaptor<Runnable> onFailure = ArgumentCaptor.forClass(Runnable.class);
+
+        scoreService.saveScore(dto, "valid-signature");
+        assertThrows(SecurityException.class, () -> scoreService.saveScore(dto, "valid-signature"));
+        verify(batchWriter).submit(any(), onFailure.capture());
+
+        onFailure.getValue().run();
+
+        assertDoesNotThrow(() -> scoreService.saveScore(dto, "valid-signature"));
+    }
+
+    @Test
+    void getScores_withCursor_shouldSeekAfterLastRowAndReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        when(scoreRepository.findPageAfter(Score.DEFAULT_BOARD, 150, 42L, Limit.of(2)))
+                .thenReturn(List.of(new Score(43L, "Ana", 150, now), new Score(7L, "Luis", 140, now)));
+
+        ScorePageDTO page = scoreService.getScores(2, "150,42");
+
+        assertEquals(List.of("Ana", "Luis"), page.getScores().stream().map(ScoreDTO::getPlayerName).toList());
+        assertEquals("140,7", page.getNext());
+    }
+
+    @Test
+    void getScores_onLastPage_shouldReturnNullCursor() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        when(scoreRepository.findByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD, Limit.of(10)))
+                .thenReturn(List.of(new Score(1L, "Ana", 200, now)));
+
+        ScorePageDTO page = scoreService.getScores(10, null);
+
+        assertEquals(1, page.getScores().size());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void getScores_withInvalidArguments_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScores(0, null));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScores(1000, null));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScores(10, "abc"));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScores(10, "150"));
+    }
+
+    @Test
+    void getPlayerRank_shouldRankPlayersByBestScore() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        when(scoreRepository.findBestScorePerPlayer()).thenReturn(List.of(
+                playerBest("Ana", 200), playerBest("Luis", 180), playerBest("Eva", 150)));
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Eva");
+        dto.setScore(190);
+        dto.setDateTime(now);
+        scoreService.saveScore(dto, "valid-signature");
+
+        assertEquals(new PlayerRankDTO("Ana", 200, 1), scoreService.getPlayerRank("Ana"));
+        assertEquals(new PlayerRankDTO("Eva", 190, 2), scoreService.getPlayerRank("Eva"));
+        assertEquals(new PlayerRankDTO("Luis", 180, 3), scoreService.getPlayerRank("Luis"));
+        assertThrows(NoSuchElementException.class, () -> scoreService.getPlayerRank("Nobody"));
+        verify(scoreRepository, times(1)).findBestScorePerPlayer();
+    }
+
+    @Test
+    void saveScore_onBoard_shouldOnlyReachThatBoard() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc("puzzle"))
+                .thenReturn(List.of(new Score(1L, "Seed", 50, now, "puzzle")));
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), eq("puzzle"), any())).thenReturn(true);
+        when(scoreRepository.save(any(Score.class))).thenAnswer(invocation -> {
+            Score saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+        assertEquals(1, scoreService.getTop10Scores("puzzle").size());
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(300);
+        dto.setDateTime(now);
+        dto.setBoardId("puzzle");
+        scoreService.saveScore(dto, "board-signature");
+
+        assertEquals(List.of("Ana", "Seed"), scoreService.getTop10Scores("puzzle").stream().map(ScoreDTO::getPlayerName).toList());
+        assertEquals("puzzle", scoreService.getTop10Scores("puzzle").get(0).getBoardId());
+        assertTrue(scoreService.getTop10Scores().isEmpty());
+        assertThrows(NoSuchElementException.class, () -> scoreService.getPlayerRank("Ana"));
+        verify(scoreRepository, times(1)).findTop10ByBoardIdOrderByScoreDescIdAsc("puzzle");
+    }
+
+    @Test
+    void saveScore_withInvalidBoardId_shouldThrowIllegalArgumentException() {
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Ana");
+        dto.setScore(300);
+        dto.setDateTime(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+        dto.setBoardId("Not A Board");
+
+        assertThrows(IllegalArgumentException.class, () -> scoreService.saveScore(dto, "signature"));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getTop10Scores("../etc"));
+        verifyNoInteractions(signatureValidator);
+    }
+
+    @Test
+    void searchPlayers_shouldReturnMatchesWithBestScoreAndRank() {
+        when(scoreRepository.findBestScorePerPlayer()).thenReturn(List.of(
+                playerBest("Ana", 200), playerBest("Luis", 180), playerBest("andres", 150)));
+
+        assertEquals(List.of(new PlayerRankDTO("Ana", 200, 1), new PlayerRankDTO("andres", 150, 3)),
+                scoreService.searchPlayers("an", 10));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.searchPlayers(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.searchPlayers("an", 51));
+    }
+
+    @Test
+    void getPercentile_shouldCountPlayersWithLowerBestScore() {
+        when(scoreRepository.findBestScorePerPlayer()).thenReturn(List.of(
+                playerBest("Ana", 200), playerBest("Luis", 180), playerBest("Eva", 150), playerBest("Leo", 100)));
+
+        assertEquals(new ScorePercentileDTO(180, 4, 2, 50.0), scoreService.getPercentile(180));
+        assertEquals(new ScorePercentileDTO(181, 4, 3, 75.0), scoreService.getPercentile(181));
+        assertEquals(new ScorePercentileDTO(500, 4, 4, 100.0), scoreService.getPercentile(500));
+        assertEquals(new ScorePercentileDTO(0, 4, 0, 0.0), scoreService.getPercentile(0));
+    }
+
+    @Test
+    void getDistribution_shouldSplitRangeUpToTopScore() {
+        when(scoreRepository.findBestScorePerPlayer()).thenReturn(List.of(
+                playerBest("Ana", 399), playerBest("Luis", 250), playerBest("Eva", 120), playerBest("Leo", 0)));
+
+        ScoreDistributionDTO distribution = scoreService.getDistribution(4);
+
+        assertEquals(4, distribution.getPlayers());
+        assertEquals(List.of(
+                new ScoreDistributionDTO.Bucket(0, 100, 1),
+                new ScoreDistributionDTO.Bucket(100, 200, 1),
+                new ScoreDistributionDTO.Bucket(200, 300, 1),
+                new ScoreDistributionDTO.Bucket(300, 400, 1)), distribution.getBuckets());
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getDistribution(0));
+    }
+
+    @Test
+    void getDistribution_withNoPlayers_shouldBeEmpty() {
+        assertEquals(new ScoreDistributionDTO(0, List.of()), scoreService.getDistribution(20));
+    }
+
+    private static ScoreRepository.PlayerBest playerBest(String playerName, int score) {
+        return new ScoreRepository.PlayerBest() {
+            @Override
+            public String getPlayerName() {
+                return playerName;
+            }
+
+            @Override
+            public int getScore() {
+                return score;
+            }
+        };
+    }
+
+    @Test
+    void saveScore_replayedSubmission_shouldBeRejectedBeforeRepository() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Replay");
+        dto.setScore(100);
+        dto.setDateTime(now);
+
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+
+        scoreService.saveScore(dto, "valid-signature");
+
+        assertThrows(SecurityException.class, () -> scoreService.saveScore(dto, "valid-signature"));
+        verify(scoreRepository, times(1)).save(any());
+    }
+
+    @Test
+    void saveScore_whenRepositoryFails_shouldAllowRetry() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Retry");
+        dto.setScore(100);
+        dto.setDateTime(now);
+
+        when(signatureValidator.validarFirma(any(), anyInt(), anyLong(), isNull(), any())).thenReturn(true);
+        when(scoreRepository.save(any()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(IllegalStateException.class, () -> scoreService.saveScore(dto, "valid-signature"));
+        assertDoesNotThrow(() -> scoreService.saveScore(dto, "valid-signature"));
+    }
+
+
+    @Test
+    void getTopScores_shouldMaintainDailyBoardFromSavedScores() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        LocalDateTime yesterday = now.minusDays(1);
+        when(scoreRepository.findTopInWindow(any(), any(), any()))
+                .thenReturn(List.of(new Score(1L, "Old", 50, now.toLocalDate().atStartOfDay())));
+        when(scoreRepository.findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD))
+                .thenReturn(List.of(new Score(2L, "Yesterday", 900, yesterday)));
+        when(signatureValidator.validarFirma(anyString(), anyInt(), anyLong(), isNull(), anyString())).thenReturn(true);
+        when(scoreRepository.save(any(Score.class))).thenAnswer(invocation -> {
+            Score score = invocation.getArgument(0);
+            score.setId(3L);
+            return score;
+        });
+
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Today");
+        dto.setScore(300);
+        dto.setDateTime(now);
+        scoreService.saveScore(dto, "valid-signature");
+
+        assertEquals(List.of("Today", "Old"),
+                scoreService.getTopScores(LeaderboardWindow.DAY).stream().map(ScoreDTO::getPlayerName).toList());
+        assertEquals(List.of("Yesterday", "Today"),
+                scoreService.getTopScores(LeaderboardWindow.ALL).stream().map(ScoreDTO::getPlayerName).toList());
+    }
+
+    @Test
+    void saveScore_inBestPerPlayerMode_shouldUpsertAndIgnoreScoresThatDoNotImprove() {
+        ScoreService bestService = new ScoreServiceImpl(scoreRepository, new ScoreMapper(), signatureValidator, batchWriter,
+                new PlayerRankIndex(1000, 1), new ReplayGuard(10_000, new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules(), true, new SimpleMeterRegistry(),
+                new LeaderboardCheckpointStore(""), 100);
+        when(signatureValidator.validarFirma(anyString(), anyInt(), anyLong(), isNull(), anyString())).thenReturn(true);
+        doAnswer(invocation -> {
+            List<Score> scores = invocation.getArgument(0);
+            Score score = scores.get(0);
+            if (score.getScore() > 200) {
+                score.setId(7L);
+            }
+            return null;
+        }).when(scoreRepository).upsertBest(anyList());
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+
+        for (int value : new int[]{300, 100, 500}) {
+            ScoreDTO dto = new ScoreDTO();
+            dto.setPlayerName("Ana");
+            dto.setScore(value);
+            dto.setDateTime(now.minusSeconds(value));
+            bestService.saveScore(dto, "valid-signature");
+        }
+
+        verify(scoreRepository, times(3)).upsertBest(anyList());
+        verify(scoreRepository, never()).save(any());
+        List<ScoreDTO> top = bestService.getTop10Scores();
+        assertEquals(1, top.size());
+        assertEquals(500, top.get(0).getScore());
+        assertEquals(500, bestService.getPlayerRank("Ana").getScore());
+    }
+
+    @Test
+    void saveScore_shouldTimeEachPhase() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        ScoreDTO dto = new ScoreDTO();
+        dto.setPlayerName("Juan");
+        dto.setScore(100);
+        dto.setDateTime(now);
+        when(signatureValidator.validarFirma("Juan", 100, dto.getTimestamp(), null, "valid-signature")).thenReturn(true);
+
+        scoreService.saveScore(dto, "valid-signature");
+        scoreService.getTop10Scores();
+
+        for (String phase : List.of("signature", "timestamp", "replay", "mapping", "persist")) {
+            assertEquals(1, meterRegistry.get("scores.save.phase").tag("phase", phase).timer().count(), phase);
+        }
+        assertEquals(1, meterRegistry.get("scores.top10").timer().count());
+    }
+
+    @Test
+    void saveScores_shouldInsertValidItemsTogetherAndReportEachResult() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        List<SignedScoreDTO> batch = List.of(
+                signedScore("Ana", 300, now),
+                signedScore("Bea", 200, now),
+                signedScore("Cid", 100, now.minusDays(1)),
+                signedScore("Ana", 300, now));
+        when(signatureValidator.validarFirmas(batch)).thenReturn(new boolean[]{true, false, true, true});
+        AtomicLong ids = new AtomicLong();
+        doAnswer(invocation -> {
+            List<Score> scores = invocation.getArgument(0);
+            scores.forEach(score -> score.setId(ids.incrementAndGet()));
+            return null;
+        }).when(scoreRepository).insertAll(anyList());
+
+        List<ScoreResultDTO> results = scoreService.saveScores(batch);
+
+        assertEquals(List.of(ScoreResultDTO.Status.ACCEPTED, ScoreResultDTO.Status.REJECTED,
+                        ScoreResultDTO.Status.REJECTED, ScoreResultDTO.Status.REJECTED),
+                results.stream().map(ScoreResultDTO::getStatus).toList());
+        assertEquals("Invalid signature", results.get(1).getMessage());
+        assertEquals("Invalid timestamp", results.get(2).getMessage());
+        assertEquals("Duplicate submission", results.get(3).getMessage());
+        verify(scoreRepository, times(1)).insertAll(argThat(scores -> scores.size() == 1));
+        verify(scoreRepository, never()).save(any());
+        assertEquals("Ana", scoreService.getTop10Scores().get(0).getPlayerName());
+    }
+
+    @Test
+    void saveScores_whenInsertFails_shouldAllowResubmission() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        List<SignedScoreDTO> batch = List.of(signedScore("Ana", 300, now));
+        when(signatureValidator.validarFirmas(batch)).thenReturn(new boolean[]{true});
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .when(scoreRepository).insertAll(anyList());
+
+        assertThrows(IllegalStateException.class, () -> scoreService.saveScores(batch));
+
+        assertEquals(ScoreResultDTO.Status.ACCEPTED, scoreService.saveScores(batch).get(0).getStatus());
+    }
+
+    @Test
+    void saveScores_withTooManyItems_shouldThrowIllegalArgumentException() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        List<SignedScoreDTO> batch = Collections.nCopies(501, signedScore("Ana", 1, now));
+
+        assertThrows(IllegalArgumentException.class, () -> scoreService.saveScores(batch));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.saveScores(List.of()));
+        verifyNoInteractions(signatureValidator);
+    }
+
+    private static SignedScoreDTO signedScore(String playerName, int score, LocalDateTime dateTime) {
+        SignedScoreDTO dto = new SignedScoreDTO();
+        dto.setPlayerName(playerName);
+        dto.setScore(score);
+        dto.setDateTime(dateTime);
+        dto.setSignature("signature");
+        return dto;
+    }
+
+    @Test
+    void load_withCheckpoint_shouldReplayOnlyTailInsteadOfScanningTable() {
+        LeaderboardCheckpointStore checkpointStore = mock(LeaderboardCheckpointStore.class);
+        LocalDateTime then = LocalDateTime.of(2025, 4, 1, 12, 0);
+        long takenAt = then.toEpochSecond(ZoneOffset.UTC);
+        when(checkpointStore.read()).thenReturn(Optional.of(new LeaderboardCheckpoint(takenAt, 50L,
+                List.of(new Score(10L, "Ana", 500, then)), Map.of("Ana", 500, "Bea", 100))));
+        when(scoreRepository.findMaxId()).thenReturn(Optional.of(51L));
+        when(scoreRepository.findCheckpointTail(50L, then.minusHours(2)))
+                .thenReturn(List.of(new Score(51L, "Bea", 700, then.plusMinutes(1))));
+        ScoreService restored = new ScoreServiceImpl(scoreRepository, new ScoreMapper(), signatureValidator, batchWriter,
+                new PlayerRankIndex(1000, 1), new ReplayGuard(10_000, new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules(), false, new SimpleMeterRegistry(), checkpointStore, 100);
+
+        assertEquals(List.of("Bea", "Ana"), restored.getTop10Scores().stream().map(ScoreDTO::getPlayerName).toList());
+        assertEquals(2, restored.getPlayerRank("Ana").getRank());
+
+        verify(scoreRepository, never()).findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD);
+        verify(scoreRepository, never()).findBestScorePerPlayer();
+    }
+
+    @Test
+    void load_withCheckpointAheadOfDatabase_shouldLoadFromTable() {
+        LeaderboardCheckpointStore checkpointStore = mock(LeaderboardCheckpointStore.class);
+        when(checkpointStore.read()).thenReturn(Optional.of(new LeaderboardCheckpoint(0L, 50L, List.of(), Map.of("Ghost", 999))));
+        when(scoreRepository.findMaxId()).thenReturn(Optional.of(10L));
+        ScoreService restored = new ScoreServiceImpl(scoreRepository, new ScoreMapper(), signatureValidator, batchWriter,
+                new PlayerRankIndex(1000, 1), new ReplayGuard(10_000, new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules(), false, new SimpleMeterRegistry(), checkpointStore, 100);
+
+        restored.getTop10Scores();
+
+        verify(scoreRepository).findTop10ByBoardIdOrderByScoreDescIdAsc(Score.DEFAULT_BOARD);
+        verify(scoreRepository, never()).findCheckpointTail(anyLong(), any());
+        assertThrows(NoSuchElementException.class, () -> restored.getPlayerRank("Ghost"));
+    }
 }
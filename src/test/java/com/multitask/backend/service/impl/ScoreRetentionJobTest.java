@@ -0,0 +1,102 @@
+package com.multitask.backend.service.impl;
+
+import com.multitask.backend.repository.ScoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ScoreRetentionJobTest {
+
+    // Thursday
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 17, 3, 30);
+
+    private ScoreRepository scoreRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        scoreRepository = mock(ScoreRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    @Test
+    void purge_shouldRunBatchesUntilOneComesBackShort() {
+        when(scoreRepository.findScoreAtOffset(999)).thenReturn(Optional.of(4200));
+        when(scoreRepository.purgeBatch(any(), anyInt(), anyInt(), anyBoolean())).thenReturn(100, 100, 37);
+        ScoreRetentionJob job = new ScoreRetentionJob(scoreRepository, meterRegistry, Runnable::run, clock, true, 30, 1000, 100, 0, false);
+
+        assertEquals(237, job.purge());
+
+        verify(scoreRepository, times(3)).purgeBatch(NOW.minusDays(30), 4200, 100, false);
+        assertEquals(237, meterRegistry.get("scores.retention.reclaimed").counter().count());
+        assertEquals(3, meterRegistry.get("scores.retention.batch").timer().count());
+    }
+
+    @Test
+    void purge_shouldNeverReachIntoCurrentWeek() {
+        when(scoreRepository.findScoreAtOffset(anyInt())).thenReturn(Optional.of(10));
+        ScoreRetentionJob job = new ScoreRetentionJob(scoreRepository, meterRegistry, Runnable::run, clock, true, 1, 10, 100, 0, true);
+
+        job.purge();
+
+        verify(scoreRepository).purgeBatch(LocalDateTime.of(2025, 4, 14, 0, 0), 10, 100, true);
+    }
+
+    @Test
+    void purge_withFewerRowsThanKeepTop_shouldDoNothing() {
+        when(scoreRepository.findScoreAtOffset(anyInt())).thenReturn(Optional.empty());
+        ScoreRetentionJob job = new ScoreRetentionJob(scoreRepository, meterRegistry, Runnable::run, clock, true, 30, 1000, 100, 0, false);
+
+        assertEquals(0, job.purge());
+        verify(scoreRepository, never()).purgeBatch(any(), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void run_whenDisabled_shouldNotTouchRepository() {
+        new ScoreRetentionJob(scoreRepository, meterRegistry, Runnable::run, clock, false, 30, 1000, 100, 0, false).run();
+
+        verifyNoInteractions(scoreRepository);
+    }
+
+    @Test
+    void run_shouldPurgeOnItsOwnExecutorAndSkipOverlappingRuns() {
+        List<Runnable> submitted = new ArrayList<>();
+        when(scoreRepository.findScoreAtOffset(anyInt())).thenReturn(Optional.of(10));
+        ScoreRetentionJob job = new ScoreRetentionJob(scoreRepository, meterRegistry, submitted::add, clock, true, 30, 1000, 100, 0, false);
+
+        job.run();
+        job.run();
+
+        assertEquals(1, submitted.size());
+        verifyNoInteractions(scoreRepository);
+        submitted.get(0).run();
+        verify(scoreRepository).purgeBatch(any(), anyInt(), anyInt(), anyBoolean());
+        job.run();
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void run_whenBatchFails_shouldStopQuietly() {
+        when(scoreRepository.findScoreAtOffset(anyInt())).thenReturn(Optional.of(10));
+        when(scoreRepository.purgeBatch(any(), anyInt(), anyInt(), anyBoolean()))
+                .thenReturn(100)
+                .thenThrow(new IllegalStateException("lock timeout"));
+        ScoreRetentionJob job = new ScoreRetentionJob(scoreRepository, meterRegistry, Runnable::run, clock, true, 30, 1000, 100, 0, false);
+
+        assertDoesNotThrow(job::run);
+        verify(scoreRepository, times(2)).purgeBatch(any(), anyInt(), anyInt(), anyBoolean());
+    }
+}